@@ -0,0 +1,72 @@
+#!/usr/bin/env sh
+# Compares startup of the plain JVM build against the AOT + CDS build on the local JVM.
+# For each variant it reports the "Started FootballApplication in ... seconds" time, the wall-clock
+# time until /actuator/health answers, and the latency of the first request to FIRST_REQUEST_PATH.
+#
+# Both variants run on the same local JVM, so the comparison is not skewed by the container image.
+#
+# Usage: API_FOOTBALL_KEY=<key> scripts/measure-startup.sh [runs]   (needs GNU date and curl)
+set -eu
+
+RUNS="${1:-5}"
+PORT="${PORT:-8080}"
+FIRST_REQUEST_PATH="${FIRST_REQUEST_PATH:-/countries}"
+WORK_DIR="target/startup"
+BASE_URL="http://localhost:${PORT}"
+
+cd "$(dirname "$0")/.."
+rm -rf "${WORK_DIR}"
+mkdir -p "${WORK_DIR}/baseline" "${WORK_DIR}/fast"
+
+echo "Building plain JVM jar"
+./mvnw -q clean package -DskipTests
+cp target/football-*.jar "${WORK_DIR}/baseline/app.jar"
+
+echo "Building AOT jar and CDS archive"
+./mvnw -q clean package -DskipTests -Pfast-startup
+cp target/football-*.jar "${WORK_DIR}/fast/football.jar"
+(
+    cd "${WORK_DIR}/fast"
+    java -Djarmode=tools -jar football.jar extract --destination extracted
+    cd extracted
+    java -XX:ArchiveClassesAtExit=app.jsa -Dspring.context.exit=onRefresh -Dspring.aot.enabled=true \
+        -Dapi.football.key=training -jar football.jar > /dev/null
+)
+
+now_ms() {
+    date +%s%3N
+}
+
+# Starts one variant from its directory, waits for health, times the first request and stops it again.
+# The CDS archive is only used when the class path matches the training run, hence the fixed directory.
+measure() {
+    name="$1"
+    dir="$2"
+    shift 2
+    log="$(pwd)/${WORK_DIR}/${name}.log"
+    start=$(now_ms)
+    (cd "${dir}" && exec java -Dserver.port="${PORT}" -Dapi.football.key="${API_FOOTBALL_KEY:-}" "$@") > "${log}" 2>&1 &
+    pid=$!
+    until curl -fs -o /dev/null "${BASE_URL}/actuator/health"; do
+        if ! kill -0 "${pid}" 2>/dev/null; then
+            echo "${name} exited during startup, see ${log}" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    ready=$(( $(now_ms) - start ))
+    first_request=$(curl -s -o /dev/null -w '%{time_total}' "${BASE_URL}${FIRST_REQUEST_PATH}")
+    started=$(sed -n 's/.*Started FootballApplication in \([0-9.]*\) seconds.*/\1/p' "${log}")
+    kill "${pid}"
+    wait "${pid}" 2>/dev/null || true
+    printf '%-10s %10s %12s %16s\n' "${name}" "${started}" "${ready}" "${first_request}"
+}
+
+printf '%-10s %10s %12s %16s\n' "variant" "started(s)" "healthy(ms)" "first request(s)"
+i=0
+while [ "${i}" -lt "${RUNS}" ]; do
+    measure baseline "${WORK_DIR}/baseline" -jar app.jar
+    measure fast "${WORK_DIR}/fast/extracted" -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true \
+        -jar football.jar
+    i=$((i + 1))
+done
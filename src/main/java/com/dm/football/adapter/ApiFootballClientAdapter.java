@@ -1,6 +1,7 @@
 package com.dm.football.adapter;
 
 import com.dm.football.exception.ExternalApiException;
+import com.dm.football.logging.HotPathLogger;
 import com.dm.football.response.CountryResponse;
 import com.dm.football.response.LeagueResponse;
 import com.dm.football.response.StandingResponse;
@@ -9,7 +10,6 @@ import com.dm.football.util.JsonConversionUtil;
 import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -19,6 +19,7 @@ import org.springframework.web.client.RestTemplate;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
@@ -32,27 +33,29 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 public class ApiFootballClientAdapter {
 
     private final RestTemplate restTemplate;
+    private final HedgedRequestExecutor hedgedRequestExecutor;
+    private final HotPathLogger hotPathLogger;
+    private final ParsedResponseCache parsedResponseCache = new ParsedResponseCache();
     @Value("${api.football.url}")
     private String apiUrl;
     @Value("${api.football.key}")
     private String apiKey;
 
-    public ApiFootballClientAdapter(RestTemplate restTemplate) {
+    public ApiFootballClientAdapter(RestTemplate restTemplate, HedgedRequestExecutor hedgedRequestExecutor,
+                                    HotPathLogger hotPathLogger) {
         this.restTemplate = restTemplate;
+        this.hedgedRequestExecutor = hedgedRequestExecutor;
+        this.hotPathLogger = hotPathLogger;
     }
 
     public List<CountryResponse> fetchCountries() {
         String url = apiUrl + "/?action=get_countries&APIkey=" + apiKey;
         ResponseEntity<String> response = null;
         try {
-            log.info("Request URL for fetchCountries {}", url);
-            response = restTemplate.exchange(url, HttpMethod.GET,
-                    getBasicHeadersHttpEntity(), new ParameterizedTypeReference<>() {
-                    });
-            log.info("Fetch Countries response is {}", response);
+            response = exchange("get_countries", url);
             TypeReference<List<CountryResponse>> typeReference = new TypeReference<>() {
             };
-            return JsonConversionUtil.convertFromJsonSilently(response.getBody(), typeReference);
+            return parsedResponseCache.convert("get_countries", null, response.getBody(), typeReference);
         } catch (Exception ex) {
             log.error("Error while fetching countries", ex);
             return Collections.emptyList();
@@ -63,14 +66,10 @@ public class ApiFootballClientAdapter {
         String url = apiUrl + "/?action=get_leagues&country_id=" + countryId + "&APIkey=" + apiKey;
         ResponseEntity<String> response = null;
         try {
-            log.info("Request URL for fetchLeagues{}", url);
-            response = restTemplate.exchange(url, HttpMethod.GET,
-                    getBasicHeadersHttpEntity(), new ParameterizedTypeReference<>() {
-                    });
-            log.info("Fetch Leagues response is {}", response);
+            response = exchange("get_leagues", url);
             TypeReference<List<LeagueResponse>> typeReference = new TypeReference<>() {
             };
-            return JsonConversionUtil.convertFromJsonSilently(response.getBody(), typeReference);
+            return parsedResponseCache.convert("get_leagues", countryId, response.getBody(), typeReference);
         } catch (Exception ex) {
             log.error("Error while fetching leagues for country", ex);
             throw new ExternalApiException("Failed to fetch leagues for country: " + countryId, ex);
@@ -81,14 +80,10 @@ public class ApiFootballClientAdapter {
         String url = apiUrl + "/?action=get_teams&league_id=" + leagueId + "&APIkey=" + apiKey;
         ResponseEntity<String> response = null;
         try {
-            log.info("Request URL for fetchTeams {}", url);
-            response = restTemplate.exchange(url, HttpMethod.GET,
-                    getBasicHeadersHttpEntity(), new ParameterizedTypeReference<>() {
-                    });
-            log.info("Fetch Teams response is {}", response);
+            response = exchange("get_teams", url);
             TypeReference<List<TeamResponse>> typeReference = new TypeReference<>() {
             };
-            return JsonConversionUtil.convertFromJsonSilently(response.getBody(), typeReference);
+            return parsedResponseCache.convert("get_teams", leagueId, response.getBody(), typeReference);
         } catch (Exception ex) {
             log.error("Error while fetching teams for league", ex);
             throw new ExternalApiException("Failed to fetch teams for league: " + leagueId, ex);
@@ -100,11 +95,7 @@ public class ApiFootballClientAdapter {
                 "&APIkey=" + apiKey;
         ResponseEntity<String> response = null;
         try {
-            log.info("Request URL for fetchStandings{}", url);
-            response = restTemplate.exchange(url, HttpMethod.GET,
-                    getBasicHeadersHttpEntity(), new ParameterizedTypeReference<>() {
-                    });
-            log.info("Fetch Standings response is {}", response);
+            response = exchange("get_standings", url);
             TypeReference<List<StandingResponse>> typeReference = new TypeReference<>() {
             };
             return JsonConversionUtil.convertFromJsonSilently(response.getBody(), typeReference);
@@ -114,7 +105,16 @@ public class ApiFootballClientAdapter {
         }
     }
 
-    private HttpEntity getBasicHeadersHttpEntity() {
+    private ResponseEntity<String> exchange(String action, String url) {
+        long start = System.nanoTime();
+        ResponseEntity<String> response = hedgedRequestExecutor.execute(action, () -> restTemplate.exchange(url,
+                HttpMethod.GET, getBasicHeadersHttpEntity(), String.class));
+        hotPathLogger.upstream(log, action, url, response.getStatusCode().value(), response.getBody(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return response;
+    }
+
+    private HttpEntity<Void> getBasicHeadersHttpEntity() {
         HttpHeaders headers = new HttpHeaders();
         headers.add(CONTENT_TYPE, APPLICATION_JSON_VALUE);
         return new HttpEntity<>(headers);
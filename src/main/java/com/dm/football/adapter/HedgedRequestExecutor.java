@@ -0,0 +1,209 @@
+package com.dm.football.adapter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs upstream calls with an optional hedge.
+ * When hedging is enabled and a call has not completed after the observed p95 latency of its action,
+ * an identical second call is fired and whichever finishes first wins and the other one is abandoned.
+ * A blocking HTTP read does not react to interruption, so the abandoned call keeps its thread until the
+ * response arrives or the upstream read timeout fires; the pool is bounded for that reason, and when it
+ * is full the call runs on the caller thread or goes without a hedge.
+ * Hedges are paid for from a budget that earns a fraction of a token per primary call,
+ * which caps the extra upstream load at roughly that fraction.
+ */
+@Component
+public class HedgedRequestExecutor {
+
+    private static final String LATENCY_METRIC = "apifootball.request";
+    private static final String HEDGE_SENT_METRIC = "apifootball.hedge.sent";
+    private static final String HEDGE_WON_METRIC = "apifootball.hedge.won";
+    private static final String HEDGE_BUDGET_EXHAUSTED_METRIC = "apifootball.hedge.budget.exhausted";
+    private static final String HEDGE_REJECTED_METRIC = "apifootball.hedge.rejected";
+
+    // Budget tokens are tracked in thousandths so fractional deposits stay exact
+    private static final long TOKEN_SCALE = 1000;
+    private static final long MIN_SAMPLES = 20;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long budgetDepositPerCall;
+    private final long maxBudget;
+    private final long minDelayMs;
+    private final long defaultDelayMs;
+    private final AtomicLong budget;
+    private final ExecutorService executor;
+
+    public HedgedRequestExecutor(MeterRegistry meterRegistry,
+                                 @Value("${api.football.hedging.enabled:false}") boolean enabled,
+                                 @Value("${api.football.hedging.budget-ratio:0.1}") double budgetRatio,
+                                 @Value("${api.football.hedging.max-budget:10}") int maxBudget,
+                                 @Value("${api.football.hedging.min-delay-ms:50}") long minDelayMs,
+                                 @Value("${api.football.hedging.default-delay-ms:500}") long defaultDelayMs,
+                                 @Value("${api.football.hedging.max-threads:64}") int maxThreads) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.budgetDepositPerCall = Math.round(budgetRatio * TOKEN_SCALE);
+        this.maxBudget = maxBudget * TOKEN_SCALE;
+        this.minDelayMs = minDelayMs;
+        this.defaultDelayMs = defaultDelayMs;
+        this.budget = new AtomicLong(this.maxBudget);
+        // No queue: a call either gets a thread right away or is handled by the caller
+        this.executor = enabled
+                ? new ThreadPoolExecutor(0, maxThreads, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                new HedgeThreadFactory())
+                : null;
+    }
+
+    public <T> T execute(String action, Supplier<T> call) {
+        if (!enabled) {
+            return timed(action, call).get();
+        }
+
+        deposit();
+        CompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+        Future<T> primary;
+        try {
+            primary = completionService.submit(() -> timed(action, call).get());
+        } catch (RejectedExecutionException ex) {
+            meterRegistry.counter(HEDGE_REJECTED_METRIC, "action", action).increment();
+            return timed(action, call).get();
+        }
+        Future<T> hedge = null;
+        try {
+            Future<T> completed = completionService.poll(hedgeDelayMs(action), TimeUnit.MILLISECONDS);
+            if (completed == null) {
+                if (withdraw()) {
+                    try {
+                        hedge = completionService.submit(() -> timed(action, call).get());
+                        meterRegistry.counter(HEDGE_SENT_METRIC, "action", action).increment();
+                    } catch (RejectedExecutionException ex) {
+                        refund();
+                        meterRegistry.counter(HEDGE_REJECTED_METRIC, "action", action).increment();
+                    }
+                } else {
+                    meterRegistry.counter(HEDGE_BUDGET_EXHAUSTED_METRIC, "action", action).increment();
+                }
+                completed = completionService.take();
+            }
+
+            try {
+                T result = completed.get();
+                if (completed == hedge) {
+                    meterRegistry.counter(HEDGE_WON_METRIC, "action", action).increment();
+                }
+                return result;
+            } catch (ExecutionException ex) {
+                // The first call to finish failed; if a second one is in flight, let it decide the outcome
+                if (hedge == null) {
+                    throw unwrap(ex);
+                }
+                Future<T> remaining = completionService.take();
+                T result = remaining.get();
+                if (remaining == hedge) {
+                    meterRegistry.counter(HEDGE_WON_METRIC, "action", action).increment();
+                }
+                return result;
+            }
+        } catch (ExecutionException ex) {
+            throw unwrap(ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + action, ex);
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    // p95 of the action once enough calls have been observed, a fixed default before that
+    private long hedgeDelayMs(String action) {
+        Timer timer = latencyTimer(action);
+        if (timer.count() < MIN_SAMPLES) {
+            return defaultDelayMs;
+        }
+        for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.95) {
+                return Math.max(minDelayMs, (long) percentile.value(TimeUnit.MILLISECONDS));
+            }
+        }
+        return defaultDelayMs;
+    }
+
+    private <T> Supplier<T> timed(String action, Supplier<T> call) {
+        return () -> latencyTimer(action).record(call);
+    }
+
+    private Timer latencyTimer(String action) {
+        return Timer.builder(LATENCY_METRIC)
+                .tag("action", action)
+                .publishPercentiles(0.95)
+                .register(meterRegistry);
+    }
+
+    private void deposit() {
+        budget.accumulateAndGet(budgetDepositPerCall, (current, deposit) -> Math.min(maxBudget, current + deposit));
+    }
+
+    private boolean withdraw() {
+        long current;
+        do {
+            current = budget.get();
+            if (current < TOKEN_SCALE) {
+                return false;
+            }
+        } while (!budget.compareAndSet(current, current - TOKEN_SCALE));
+        return true;
+    }
+
+    private void refund() {
+        budget.accumulateAndGet(TOKEN_SCALE, (current, refund) -> Math.min(maxBudget, current + refund));
+    }
+
+    private static RuntimeException unwrap(ExecutionException ex) {
+        Throwable cause = ex.getCause();
+        return cause instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new IllegalStateException(cause);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static class HedgeThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "apifootball-hedge-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.dm.football.adapter;
+
+import com.dm.football.util.JsonConversionUtil;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the last raw body received for each upstream action / id together with its parsed form.
+ * When apifootball.com returns a byte-for-byte identical body, the previously deserialized immutable
+ * list is handed back instead of running the payload through {@link JsonConversionUtil} again.
+ */
+class ParsedResponseCache {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    <T> List<T> convert(String action, String id, String body, TypeReference<List<T>> typeReference)
+            throws JsonParseException {
+        String key = id == null ? action : String.join("-", action, id);
+        long fingerprint = fingerprint(body);
+
+        Entry previous = entries.get(key);
+        if (previous != null && previous.fingerprint() == fingerprint && previous.length() == body.length()) {
+            @SuppressWarnings("unchecked")
+            List<T> cached = (List<T>) previous.parsed();
+            return cached;
+        }
+
+        List<T> parsed = JsonConversionUtil.convertFromJsonSilently(body, typeReference);
+        List<T> immutable = parsed == null ? List.of() : List.copyOf(parsed);
+        entries.put(key, new Entry(fingerprint, body.length(), immutable));
+        return immutable;
+    }
+
+    // 64-bit FNV-1a over the UTF-16 chars; avoids allocating a byte[] copy of the body
+    private static long fingerprint(String body) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < body.length(); i++) {
+            hash ^= body.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private record Entry(long fingerprint, int length, List<?> parsed) {
+    }
+}
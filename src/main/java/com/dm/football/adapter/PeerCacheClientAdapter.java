@@ -0,0 +1,67 @@
+package com.dm.football.adapter;
+
+import com.dm.football.exception.ExternalApiException;
+import com.dm.football.response.StandingResponse;
+import com.dm.football.response.TeamResponse;
+import com.dm.football.util.JsonConversionUtil;
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+import static org.springframework.http.HttpHeaders.ACCEPT;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * Adapter (client) for the peer cache endpoints of other replicas of this service.
+ * Handles the HTTP communication with the replica that owns a league key.
+ */
+@Component
+@Slf4j
+public class PeerCacheClientAdapter {
+
+    private final RestTemplate peerRestTemplate;
+
+    public PeerCacheClientAdapter(@Qualifier("peerRestTemplate") RestTemplate peerRestTemplate) {
+        this.peerRestTemplate = peerRestTemplate;
+    }
+
+    public List<TeamResponse> fetchTeams(String peerUrl, String leagueId) {
+        String url = peerUrl + "/peer/teams/" + leagueId;
+        try {
+            ResponseEntity<String> response = peerRestTemplate.exchange(url, HttpMethod.GET,
+                    getBasicHeadersHttpEntity(), String.class);
+            TypeReference<List<TeamResponse>> typeReference = new TypeReference<>() {
+            };
+            return JsonConversionUtil.convertFromJsonSilently(response.getBody(), typeReference);
+        } catch (Exception ex) {
+            throw new ExternalApiException("Failed to fetch teams for league: " + leagueId + " from peer: " + peerUrl, ex);
+        }
+    }
+
+    public List<StandingResponse> fetchStandings(String peerUrl, String leagueId) {
+        String url = peerUrl + "/peer/standings/" + leagueId;
+        try {
+            ResponseEntity<String> response = peerRestTemplate.exchange(url, HttpMethod.GET,
+                    getBasicHeadersHttpEntity(), String.class);
+            TypeReference<List<StandingResponse>> typeReference = new TypeReference<>() {
+            };
+            return JsonConversionUtil.convertFromJsonSilently(response.getBody(), typeReference);
+        } catch (Exception ex) {
+            throw new ExternalApiException("Failed to fetch standings for league: " + leagueId + " from peer: " + peerUrl, ex);
+        }
+    }
+
+    private HttpEntity<Void> getBasicHeadersHttpEntity() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(ACCEPT, APPLICATION_JSON_VALUE);
+        return new HttpEntity<>(headers);
+    }
+}
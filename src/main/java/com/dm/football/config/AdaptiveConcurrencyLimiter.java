@@ -0,0 +1,82 @@
+package com.dm.football.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gradient-style concurrency limit for a single endpoint.
+ * The limit follows the ratio between a long-term (smoothed) latency and the latest sample:
+ * when requests start to queue the sample grows, the gradient drops below one and the limit shrinks;
+ * when latency is stable the limit grows by a small queue allowance (square root of the limit).
+ * A share of the limit is reserved for priority requests, normal requests are shed before them.
+ */
+class AdaptiveConcurrencyLimiter {
+
+    private static final double LONG_RTT_SMOOTHING = 0.05;
+    private static final double LIMIT_SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+    // Allow the long-term latency to recover faster when it is far above the current one
+    private static final double LONG_RTT_DRIFT = 2.0;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double priorityReserve;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private volatile double limit;
+    private double longRttNanos;
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double priorityReserve) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.priorityReserve = priorityReserve;
+    }
+
+    boolean tryAcquire(boolean priority) {
+        int threshold = priority ? getLimit() : Math.max(1, (int) (getLimit() * (1 - priorityReserve)));
+        int current;
+        do {
+            current = inflight.get();
+            if (current >= threshold) {
+                return false;
+            }
+        } while (!inflight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    // Latency samples are only taken for successful requests, failures just free the slot
+    void release(long rttNanos, boolean sample) {
+        int inflightAtCompletion = inflight.getAndDecrement();
+        if (sample && rttNanos > 0) {
+            update(rttNanos, inflightAtCompletion);
+        }
+    }
+
+    int getLimit() {
+        return (int) limit;
+    }
+
+    int getInflight() {
+        return inflight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inflightAtCompletion) {
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else if (longRttNanos / rttNanos > LONG_RTT_DRIFT) {
+            longRttNanos = longRttNanos * 0.9 + rttNanos * 0.1;
+        } else {
+            longRttNanos = longRttNanos * (1 - LONG_RTT_SMOOTHING) + rttNanos * LONG_RTT_SMOOTHING;
+        }
+
+        // Do not grow the limit when the endpoint is not using it
+        if (inflightAtCompletion < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, longRttNanos / rttNanos));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - LIMIT_SMOOTHING) + newLimit * LIMIT_SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+}
@@ -0,0 +1,157 @@
+package com.dm.football.config;
+
+import com.dm.football.controller.FsController;
+import com.dm.football.service.OfflineModeService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Applies adaptive concurrency limits to {@link FsController} requests and sheds the excess with 503.
+ * Every request needs a permit from a limiter shared by all endpoints and from its own endpoint limiter.
+ * Requests answered from the offline cache and team-standing lookups are priority traffic: a share of the
+ * shared limit is held back from the other endpoints, so priority requests are still admitted after
+ * normal traffic has been shed.
+ */
+@Component
+@Slf4j
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+    private static final String PRIORITY_PATH_PREFIX = "/team-standing";
+    private static final String SHARED_SCOPE = "*";
+    // Shedding is counted per request, but logged at most once per interval
+    private static final long SHED_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final OfflineModeService offlineModeService;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double priorityReserve;
+    private final String retryAfterSeconds;
+    private final AdaptiveConcurrencyLimiter sharedLimiter;
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+    private final AtomicLong shedSinceLog = new AtomicLong();
+    private final AtomicLong nextShedLogNanos = new AtomicLong(System.nanoTime());
+
+    public ConcurrencyLimitInterceptor(OfflineModeService offlineModeService,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${server.concurrency-limit.enabled:true}") boolean enabled,
+                                       @Value("${server.concurrency-limit.initial-limit:20}") int initialLimit,
+                                       @Value("${server.concurrency-limit.min-limit:5}") int minLimit,
+                                       @Value("${server.concurrency-limit.max-limit:200}") int maxLimit,
+                                       @Value("${server.concurrency-limit.priority-reserve:0.2}") double priorityReserve,
+                                       @Value("${server.concurrency-limit.retry-after-seconds:1}") int retryAfterSeconds,
+                                       @Value("${server.concurrency-limit.shared.initial-limit:50}") int sharedInitialLimit,
+                                       @Value("${server.concurrency-limit.shared.min-limit:10}") int sharedMinLimit,
+                                       @Value("${server.concurrency-limit.shared.max-limit:400}") int sharedMaxLimit) {
+        this.offlineModeService = offlineModeService;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.priorityReserve = priorityReserve;
+        this.retryAfterSeconds = String.valueOf(retryAfterSeconds);
+        this.sharedLimiter = register(SHARED_SCOPE,
+                new AdaptiveConcurrencyLimiter(sharedInitialLimit, sharedMinLimit, sharedMaxLimit, priorityReserve));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled || !(handler instanceof HandlerMethod handlerMethod)
+                || !FsController.class.isAssignableFrom(handlerMethod.getBeanType())) {
+            return true;
+        }
+        // Async dispatches of an already admitted request keep their original permit
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            return true;
+        }
+
+        String endpoint = endpointOf(request);
+        boolean priority = offlineModeService.isOfflineMode() || endpoint.startsWith(PRIORITY_PATH_PREFIX);
+        AdaptiveConcurrencyLimiter limiter = limiters.computeIfAbsent(endpoint, this::createLimiter);
+
+        if (!sharedLimiter.tryAcquire(priority)) {
+            return reject(response, endpoint, priority, SHARED_SCOPE, sharedLimiter);
+        }
+        if (!limiter.tryAcquire(priority)) {
+            sharedLimiter.release(0, false);
+            return reject(response, endpoint, priority, endpoint, limiter);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(limiter, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object permit = request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit instanceof Permit admitted) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            boolean success = ex == null && response.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value();
+            long rttNanos = System.nanoTime() - admitted.startNanos();
+            admitted.limiter().release(rttNanos, success);
+            sharedLimiter.release(rttNanos, success);
+        }
+    }
+
+    private boolean reject(HttpServletResponse response, String endpoint, boolean priority,
+                           String scope, AdaptiveConcurrencyLimiter limiter) {
+        meterRegistry.counter("http.concurrency.rejected", "endpoint", endpoint,
+                "priority", String.valueOf(priority), "scope", scope).increment();
+        logShed(endpoint, scope, limiter);
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        return false;
+    }
+
+    private void logShed(String endpoint, String scope, AdaptiveConcurrencyLimiter limiter) {
+        long shed = shedSinceLog.incrementAndGet();
+        long now = System.nanoTime();
+        long next = nextShedLogNanos.get();
+        if (now - next >= 0 && nextShedLogNanos.compareAndSet(next, now + SHED_LOG_INTERVAL_NANOS)) {
+            shedSinceLog.addAndGet(-shed);
+            log.warn("Shed {} requests in the last interval, latest for {} at concurrency limit {} of {}",
+                    shed, endpoint, limiter.getLimit(), scope);
+        }
+    }
+
+    // The priority reserve is applied once, on the shared limiter, so endpoint limiters use their whole limit
+    private AdaptiveConcurrencyLimiter createLimiter(String endpoint) {
+        return register(endpoint, new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, 0));
+    }
+
+    private AdaptiveConcurrencyLimiter register(String endpoint, AdaptiveConcurrencyLimiter limiter) {
+        Gauge.builder("http.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        Gauge.builder("http.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    private static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+
+    private record Permit(AdaptiveConcurrencyLimiter limiter, long startNanos) {
+    }
+}
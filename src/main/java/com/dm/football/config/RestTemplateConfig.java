@@ -1,14 +1,36 @@
 package com.dm.football.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class RestTemplateConfig {
 
+    // Bounded so a stalled upstream call, including an abandoned hedge, eventually frees its thread
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    @Primary
+    public RestTemplate restTemplate(
+            @Value("${api.football.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${api.football.read-timeout-ms:5000}") int readTimeoutMs) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeoutMs);
+        requestFactory.setReadTimeout(readTimeoutMs);
+        return new RestTemplate(requestFactory);
     }
-}
\ No newline at end of file
+
+    // Connecting must fail fast so an unreachable owner falls back to upstream quickly, while the read
+    // timeout has to outlast the owner's own upstream fetch (api.football.read-timeout-ms)
+    @Bean
+    public RestTemplate peerRestTemplate(
+            @Value("${peer.cache.connect-timeout-ms:500}") int connectTimeoutMs,
+            @Value("${peer.cache.read-timeout-ms:6000}") int readTimeoutMs) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeoutMs);
+        requestFactory.setReadTimeout(readTimeoutMs);
+        return new RestTemplate(requestFactory);
+    }
+}
@@ -0,0 +1,49 @@
+package com.dm.football.config;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Dedicated executor and timeout for the NDJSON streaming endpoints.
+ * StreamingResponseBody is written on the MVC async executor; without this it would share Boot's
+ * applicationTaskExecutor (8 core threads and an unbounded queue), so only a handful of streams would
+ * progress while the rest wait in the queue. When every thread is busy, the stream is written on the
+ * request thread instead of being queued or rejected.
+ */
+@Configuration
+public class StreamingConfig implements WebMvcConfigurer {
+
+    private final ThreadPoolTaskExecutor streamingExecutor;
+    private final long timeoutMs;
+
+    public StreamingConfig(@Value("${server.streaming.max-threads:64}") int maxThreads,
+                           @Value("${server.streaming.timeout-ms:60000}") long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+        // No queue: every stream gets its own thread up to the limit, idle threads are released
+        this.streamingExecutor = new ThreadPoolTaskExecutor();
+        streamingExecutor.setCorePoolSize(maxThreads);
+        streamingExecutor.setMaxPoolSize(maxThreads);
+        streamingExecutor.setAllowCoreThreadTimeOut(true);
+        streamingExecutor.setQueueCapacity(0);
+        streamingExecutor.setThreadNamePrefix("ndjson-stream-");
+        streamingExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        streamingExecutor.initialize();
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingExecutor);
+        configurer.setDefaultTimeout(timeoutMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streamingExecutor.shutdown();
+    }
+}
@@ -0,0 +1,83 @@
+package com.dm.football.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.HalConfiguration;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+import org.springframework.hateoas.server.core.DelegatingLinkRelationProvider;
+import org.springframework.http.converter.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Spring MVC customizations.
+ * Spring MVC already registers the binary (CBOR / Smile) converters when their Jackson modules are on
+ * the classpath; their mappers get the HAL module here so a client switching its Accept header
+ * (application/cbor or application/x-jackson-smile) receives the same _embedded / _links structure
+ * as the default HAL JSON representation.
+ * Also installs the per-endpoint concurrency limit in front of the controller.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+    private final ApplicationContext applicationContext;
+    private final ObjectProvider<DelegatingLinkRelationProvider> linkRelationProvider;
+    private final ObjectProvider<CurieProvider> curieProvider;
+    private final ObjectProvider<MessageResolver> messageResolver;
+    private final ObjectProvider<HalConfiguration> halConfiguration;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(concurrencyLimitInterceptor);
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        boolean cbor = false;
+        boolean smile = false;
+        for (HttpMessageConverter<?> converter : converters) {
+            if (converter instanceof MappingJackson2CborHttpMessageConverter cborConverter) {
+                registerHal(cborConverter);
+                cbor = true;
+            } else if (converter instanceof MappingJackson2SmileHttpMessageConverter smileConverter) {
+                registerHal(smileConverter);
+                smile = true;
+            }
+        }
+        // Appended last so JSON stays the representation picked for Accept: */*
+        if (!cbor) {
+            converters.add(registerHal(new MappingJackson2CborHttpMessageConverter(Jackson2ObjectMapperBuilder.cbor().build())));
+        }
+        if (!smile) {
+            converters.add(registerHal(new MappingJackson2SmileHttpMessageConverter(Jackson2ObjectMapperBuilder.smile().build())));
+        }
+    }
+
+    private <C extends AbstractJackson2HttpMessageConverter> C registerHal(C converter) {
+        ObjectMapper objectMapper = converter.getObjectMapper();
+        objectMapper.registerModule(new Jackson2HalModule());
+        LinkRelationProvider relationProvider = linkRelationProvider.getIfAvailable();
+        objectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                relationProvider != null ? relationProvider : new DefaultLinkRelationProvider(),
+                curieProvider.getIfAvailable(() -> CurieProvider.NONE),
+                messageResolver.getIfAvailable(() -> MessageResolver.DEFAULTS_ONLY),
+                halConfiguration.getIfAvailable(HalConfiguration::new),
+                applicationContext.getAutowireCapableBeanFactory()));
+        return converter;
+    }
+}
@@ -1,11 +1,19 @@
 package com.dm.football.controller;
 
+import com.dm.football.logging.HotPathLogger;
 import com.dm.football.response.CountryResponse;
 import com.dm.football.response.LeagueResponse;
+import com.dm.football.response.RankingResponse;
+import com.dm.football.response.StandingHistoryResponse;
 import com.dm.football.response.StandingResponse;
 import com.dm.football.response.TeamResponse;
+import com.dm.football.response.TeamSearchResponse;
 import com.dm.football.service.FootballService;
 import com.dm.football.service.OfflineModeService;
+import com.dm.football.service.RankingMetric;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -14,13 +22,17 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
@@ -30,8 +42,13 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 @RequiredArgsConstructor
 public class FsController {
 
+    private static final int MAX_SEARCH_RESULTS = 50;
+    private static final int MAX_RANKING_RESULTS = 100;
+
     private final FootballService footballService;
     private final OfflineModeService offlineModeService;
+    private final ObjectMapper objectMapper;
+    private final HotPathLogger hotPathLogger;
 
     @Operation(summary = "Get all available countries")
     @ApiResponses(value = {
@@ -40,7 +57,7 @@ public class FsController {
     })
     @GetMapping("/countries")
     public ResponseEntity<CollectionModel<EntityModel<CountryResponse>>> getCountries() {
-        log.info("Request received for getting all countries");
+        hotPathLogger.request(log, "countries");
 
         List<CountryResponse> countries = footballService.getAllCountries();
 
@@ -62,7 +79,7 @@ public class FsController {
     public ResponseEntity<CollectionModel<EntityModel<TeamResponse>>> getTeams(
             @Parameter(description = "League ID") @PathVariable String leagueId) {
 
-        log.info("Request received for getting teams for league: {}", leagueId);
+        hotPathLogger.request(log, "teams", "league_id", leagueId);
 
         List<TeamResponse> teams = footballService.getTeamsByLeague(leagueId);
 
@@ -82,7 +99,7 @@ public class FsController {
     public ResponseEntity<CollectionModel<EntityModel<LeagueResponse>>> getLeagues(
             @Parameter(description = "Country ID") @PathVariable String countryId) {
 
-        log.info("Request received for getting leagues for country: {}", countryId);
+        hotPathLogger.request(log, "leagues", "country_id", countryId);
 
         List<LeagueResponse> leagues = footballService.getLeaguesByCountry(countryId);
 
@@ -104,7 +121,7 @@ public class FsController {
     public ResponseEntity<CollectionModel<EntityModel<StandingResponse>>> getStandings(
             @Parameter(description = "League ID") @PathVariable String leagueId) {
 
-        log.info("Request received for getting standings for league: {}", leagueId);
+        hotPathLogger.request(log, "standings", "league_id", leagueId);
 
         List<StandingResponse> standings = footballService.getStandings(leagueId);
 
@@ -136,7 +153,7 @@ public class FsController {
             @PathVariable
             String team) {
 
-        log.info("Request received for team standing: {}/{}/{}", country, leagueId, team);
+        hotPathLogger.request(log, "team-standing", "country", country, "league_id", leagueId, "team", team);
 
         StandingResponse standing = footballService.getTeamStanding(country, leagueId, team);
 
@@ -147,6 +164,109 @@ public class FsController {
         return ResponseEntity.ok(standingModel);
     }
 
+    @Operation(summary = "Search teams across all cached leagues")
+    @GetMapping("/search/teams")
+    public ResponseEntity<CollectionModel<EntityModel<TeamSearchResponse>>> searchTeams(
+            @Parameter(description = "Team name, country or league prefix") @RequestParam("q") String query,
+            @Parameter(description = "Maximum number of results") @RequestParam(defaultValue = "10") int limit) {
+
+        hotPathLogger.request(log, "search-teams", "query", query);
+
+        List<TeamSearchResponse> results = footballService.searchTeams(query, Math.min(limit, MAX_SEARCH_RESULTS));
+
+        List<EntityModel<TeamSearchResponse>> resultModels = results.stream()
+                .map(result -> {
+                    EntityModel<TeamSearchResponse> model = EntityModel.of(result)
+                            .add(linkTo(methodOn(FsController.class).getTeams(result.getLeagueId())).withRel("league-teams"))
+                            .add(linkTo(methodOn(FsController.class).getStandings(result.getLeagueId())).withRel("league-standings"));
+                    // /team-standing matches on the standings country, only known once the league's standings are cached
+                    if (result.getStandingsCountry() != null) {
+                        model.add(linkTo(methodOn(FsController.class).getTeamStanding(
+                                result.getStandingsCountry(), result.getLeagueId(), result.getTeamName())).withRel("team-details"));
+                    }
+                    return model;
+                })
+                .toList();
+
+        CollectionModel<EntityModel<TeamSearchResponse>> collectionModel = CollectionModel.of(resultModels)
+                .add(linkTo(methodOn(FsController.class).searchTeams(query, limit)).withSelfRel());
+
+        return ResponseEntity.ok(collectionModel);
+    }
+
+    @Operation(summary = "Get top teams by points, goal difference or goals for across leagues")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved rankings"),
+            @ApiResponse(responseCode = "400", description = "Unknown ranking metric")
+    })
+    @GetMapping("/rankings/{metric}")
+    public ResponseEntity<CollectionModel<EntityModel<RankingResponse>>> getRankings(
+            @Parameter(description = "Metric: points, goal-difference or goals-for") @PathVariable String metric,
+            @Parameter(description = "Country name, all cached leagues when omitted") @RequestParam(required = false) String country,
+            @Parameter(description = "Number of teams") @RequestParam(defaultValue = "10") int limit) {
+
+        hotPathLogger.request(log, "rankings", "metric", metric, "country", country);
+
+        Optional<RankingMetric> rankingMetric = RankingMetric.fromValue(metric);
+        if (rankingMetric.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<RankingResponse> rankings = footballService.getTopTeams(rankingMetric.get(), country,
+                Math.min(limit, MAX_RANKING_RESULTS));
+
+        List<EntityModel<RankingResponse>> rankingModels = rankings.stream()
+                .map(ranking -> EntityModel.of(ranking)
+                        .add(linkTo(methodOn(FsController.class).getTeamStanding(ranking.getStanding().getCountryName(),
+                                ranking.getStanding().getLeagueId(), ranking.getStanding().getTeamName())).withRel("team-details"))
+                        .add(linkTo(methodOn(FsController.class).getStandings(ranking.getStanding().getLeagueId())).withRel("league-standings")))
+                .toList();
+
+        CollectionModel<EntityModel<RankingResponse>> collectionModel = CollectionModel.of(rankingModels)
+                .add(linkTo(methodOn(FsController.class).getRankings(metric, country, limit)).withSelfRel());
+
+        return ResponseEntity.ok(collectionModel);
+    }
+
+    @Operation(summary = "Get the recorded standings history of a team in a league")
+    @GetMapping("/history/{leagueId}/{teamId}")
+    public ResponseEntity<CollectionModel<EntityModel<StandingHistoryResponse>>> getTeamHistory(
+            @Parameter(description = "League ID") @PathVariable String leagueId,
+            @Parameter(description = "Team ID") @PathVariable String teamId) {
+
+        hotPathLogger.request(log, "history", "league_id", leagueId, "team_id", teamId);
+
+        List<StandingHistoryResponse> history = footballService.getTeamHistory(leagueId, teamId);
+
+        List<EntityModel<StandingHistoryResponse>> historyModels = history.stream()
+                .map(EntityModel::of)
+                .toList();
+
+        CollectionModel<EntityModel<StandingHistoryResponse>> collectionModel = CollectionModel.of(historyModels)
+                .add(linkTo(methodOn(FsController.class).getTeamHistory(leagueId, teamId)).withSelfRel())
+                .add(linkTo(methodOn(FsController.class).getStandings(leagueId)).withRel("league-standings"));
+
+        return ResponseEntity.ok(collectionModel);
+    }
+
+    @Operation(summary = "Stream all available countries as newline-delimited JSON")
+    @GetMapping(value = "/stream/countries", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamCountries() {
+        hotPathLogger.request(log, "stream-countries");
+
+        return streamNdjson(footballService.getAllCountries(), CountryResponse.class);
+    }
+
+    @Operation(summary = "Stream teams of a league as newline-delimited JSON")
+    @GetMapping(value = "/stream/teams/{leagueId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTeams(
+            @Parameter(description = "League ID") @PathVariable String leagueId) {
+
+        hotPathLogger.request(log, "stream-teams", "league_id", leagueId);
+
+        return streamNdjson(footballService.getTeamsByLeague(leagueId), TeamResponse.class);
+    }
+
     @Operation(summary = "Toggle offline mode")
     @PostMapping("/offline-mode/{enabled}")
     public ResponseEntity<String> toggleOfflineMode(
@@ -159,5 +279,28 @@ public class FsController {
 
         return ResponseEntity.ok(message);
     }
-}
 
+    // Writes one element per line straight from the (cached) list, flushing after each one,
+    // instead of building the whole HAL collection in memory first
+    private <T> ResponseEntity<StreamingResponseBody> streamNdjson(List<T> elements, Class<T> type) {
+        List<T> source = elements == null ? List.of() : elements;
+        ObjectWriter writer = objectMapper.writerFor(type);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                // Lines are terminated explicitly, no separator between root values
+                generator.setRootValueSeparator(null);
+                for (T element : source) {
+                    writer.writeValue(generator, element);
+                    generator.writeRaw('\n');
+                    generator.flush();
+                }
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
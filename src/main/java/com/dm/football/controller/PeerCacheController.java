@@ -0,0 +1,57 @@
+package com.dm.football.controller;
+
+import com.dm.football.response.StandingResponse;
+import com.dm.football.response.TeamResponse;
+import com.dm.football.service.PeerCacheService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Internal endpoints used by other replicas to read league data from the replica owning it.
+ * Answers are plain JSON lists and are always served locally, never forwarded again.
+ * Both endpoints answer 404 while the peer cache is disabled.
+ */
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping(value = "/peer", produces = MediaType.APPLICATION_JSON_VALUE)
+public class PeerCacheController {
+
+    private final PeerCacheService peerCacheService;
+
+    @Operation(summary = "Get teams of an owned league for a peer replica")
+    @GetMapping("/teams/{leagueId}")
+    public ResponseEntity<List<TeamResponse>> getTeams(
+            @Parameter(description = "League ID") @PathVariable String leagueId) {
+
+        log.debug("Peer request received for teams for league: {}", leagueId);
+
+        if (!peerCacheService.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(peerCacheService.serveTeams(leagueId));
+    }
+
+    @Operation(summary = "Get standings of an owned league for a peer replica")
+    @GetMapping("/standings/{leagueId}")
+    public ResponseEntity<List<StandingResponse>> getStandings(
+            @Parameter(description = "League ID") @PathVariable String leagueId) {
+
+        log.debug("Peer request received for standings for league: {}", leagueId);
+
+        if (!peerCacheService.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(peerCacheService.serveStandings(leagueId));
+    }
+}
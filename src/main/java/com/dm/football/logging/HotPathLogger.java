@@ -0,0 +1,109 @@
+package com.dm.football.logging;
+
+import com.dm.football.util.JsonConversionUtil;
+import org.slf4j.Logger;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Logging for the request and upstream hot path.
+ * Events are sampled per category and carry structured key/value fields instead of bodies,
+ * secrets are redacted from URLs, and full upstream payloads are only logged while the
+ * runtime payload debug mode is switched on.
+ */
+@Component
+public class HotPathLogger {
+
+    private static final String CONTROLLER = "controller";
+    private static final String UPSTREAM = "upstream";
+
+    private static final Pattern API_KEY = Pattern.compile("(?i)(apikey=)[^&\\s\"]*");
+
+    private final double controllerSampleRate;
+    private final double upstreamSampleRate;
+    private volatile boolean payloadDebug;
+
+    public HotPathLogger(@Value("${hotpath.logging.sample-rate.controller:0.01}") double controllerSampleRate,
+                         @Value("${hotpath.logging.sample-rate.upstream:0.1}") double upstreamSampleRate,
+                         @Value("${hotpath.logging.payload-debug:false}") boolean payloadDebug) {
+        this.controllerSampleRate = controllerSampleRate;
+        this.upstreamSampleRate = upstreamSampleRate;
+        setPayloadDebug(payloadDebug);
+    }
+
+    public boolean isPayloadDebug() {
+        return payloadDebug;
+    }
+
+    // Toggle full payload logging at runtime, including the bodies of payloads that fail to parse
+    public void setPayloadDebug(boolean enabled) {
+        this.payloadDebug = enabled;
+        JsonConversionUtil.setLogPayloads(enabled);
+    }
+
+    /**
+     * Logs an incoming request; keyValues are alternating field names and values.
+     */
+    public void request(Logger log, String endpoint, Object... keyValues) {
+        if (!log.isInfoEnabled() || !sampled(CONTROLLER)) {
+            return;
+        }
+        LoggingEventBuilder event = log.atInfo()
+                .setMessage("request")
+                .addKeyValue("endpoint", endpoint);
+        for (int i = 0; i + 1 < keyValues.length; i += 2) {
+            event.addKeyValue(String.valueOf(keyValues[i]), keyValues[i + 1]);
+        }
+        event.addKeyValue("sample_rate", rateOf(CONTROLLER)).log();
+    }
+
+    /**
+     * Logs a completed upstream call with its status, body size and duration; the body itself
+     * is only logged in payload debug mode.
+     */
+    public void upstream(Logger log, String action, String url, int status, String body, long durationMs) {
+        if (payloadDebug) {
+            log.atInfo()
+                    .setMessage("upstream payload")
+                    .addKeyValue("action", action)
+                    .addKeyValue("url", redact(url))
+                    .addKeyValue("status", status)
+                    .addKeyValue("duration_ms", durationMs)
+                    .addKeyValue("body", body)
+                    .log();
+            return;
+        }
+        if (!log.isInfoEnabled() || !sampled(UPSTREAM)) {
+            return;
+        }
+        log.atInfo()
+                .setMessage("upstream")
+                .addKeyValue("action", action)
+                .addKeyValue("url", redact(url))
+                .addKeyValue("status", status)
+                .addKeyValue("body_length", body == null ? 0 : body.length())
+                .addKeyValue("duration_ms", durationMs)
+                .addKeyValue("sample_rate", rateOf(UPSTREAM))
+                .log();
+    }
+
+    public static String redact(String value) {
+        return value == null ? null : API_KEY.matcher(value).replaceAll("$1****");
+    }
+
+    private boolean sampled(String category) {
+        if (payloadDebug) {
+            return true;
+        }
+        double rate = rateOf(category);
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private double rateOf(String category) {
+        return UPSTREAM.equals(category) ? upstreamSampleRate : controllerSampleRate;
+    }
+}
@@ -0,0 +1,36 @@
+package com.dm.football.logging;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint toggling full upstream payload logging at runtime.
+ * Not exposed by default; add it to management.endpoints.web.exposure.include, preferably together with
+ * a separate management.server.port, to reach it under /actuator/payloaddebug.
+ */
+@Component
+@Endpoint(id = "payloaddebug")
+@RequiredArgsConstructor
+@Slf4j
+public class PayloadDebugEndpoint {
+
+    private final HotPathLogger hotPathLogger;
+
+    @ReadOperation
+    public Map<String, Boolean> payloadDebug() {
+        return Map.of("enabled", hotPathLogger.isPayloadDebug());
+    }
+
+    @WriteOperation
+    public Map<String, Boolean> setPayloadDebug(boolean enabled) {
+        log.info("Payload debug logging {}", enabled ? "enabled" : "disabled");
+        hotPathLogger.setPayloadDebug(enabled);
+        return payloadDebug();
+    }
+}
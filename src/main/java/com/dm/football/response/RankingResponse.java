@@ -0,0 +1,27 @@
+package com.dm.football.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankingResponse {
+
+    @JsonProperty("rank")
+    private int rank;
+
+    @JsonProperty("metric")
+    private String metric;
+
+    @JsonProperty("metric_value")
+    private int metricValue;
+
+    @JsonUnwrapped
+    private StandingResponse standing;
+}
@@ -0,0 +1,43 @@
+package com.dm.football.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StandingHistoryResponse {
+
+    @JsonProperty("recorded_at")
+    private Instant recordedAt;
+
+    @JsonProperty("overall_league_position")
+    private int position;
+
+    @JsonProperty("overall_league_payed")
+    private int played;
+
+    @JsonProperty("overall_league_W")
+    private int wins;
+
+    @JsonProperty("overall_league_D")
+    private int draws;
+
+    @JsonProperty("overall_league_L")
+    private int losses;
+
+    @JsonProperty("overall_league_GF")
+    private int goalsFor;
+
+    @JsonProperty("overall_league_GA")
+    private int goalsAgainst;
+
+    @JsonProperty("overall_league_PTS")
+    private int points;
+}
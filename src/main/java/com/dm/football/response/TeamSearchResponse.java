@@ -0,0 +1,35 @@
+package com.dm.football.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamSearchResponse {
+
+    @JsonProperty("team_key")
+    private String teamKey;
+
+    @JsonProperty("team_name")
+    private String teamName;
+
+    @JsonProperty("team_country")
+    private String teamCountry;
+
+    @JsonProperty("league_id")
+    private String leagueId;
+
+    @JsonProperty("league_name")
+    private String leagueName;
+
+    @JsonProperty("standings_country")
+    private String standingsCountry;
+
+    @JsonProperty("score")
+    private int score;
+}
@@ -4,8 +4,11 @@ import com.dm.football.exception.TeamNotFoundException;
 import com.dm.football.factory.DataRetrievalStrategyFactory;
 import com.dm.football.response.CountryResponse;
 import com.dm.football.response.LeagueResponse;
+import com.dm.football.response.RankingResponse;
+import com.dm.football.response.StandingHistoryResponse;
 import com.dm.football.response.StandingResponse;
 import com.dm.football.response.TeamResponse;
+import com.dm.football.response.TeamSearchResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,6 +21,9 @@ import java.util.List;
 public class FootballService {
     private final DataRetrievalStrategyFactory strategyFactory;
     private final OfflineModeService offlineModeService;
+    private final TeamSearchService teamSearchService;
+    private final StandingsRankingService standingsRankingService;
+    private final StandingsHistoryService standingsHistoryService;
 
     public List<CountryResponse> getAllCountries() {
         DataRetrievalStrategy strategy = strategyFactory.getStrategy(offlineModeService.isOfflineMode());
@@ -33,6 +39,7 @@ public class FootballService {
         var allLeagues = strategy.getLeaguesByCountry(countryId);
         if (!offlineModeService.isOfflineMode()) {
             offlineModeService.cacheLeagues(countryId, allLeagues);
+            teamSearchService.indexLeagues(allLeagues);
         }
         return allLeagues;
     }
@@ -42,6 +49,7 @@ public class FootballService {
         var allTeams = strategy.getTeamsByLeague(leagueId);
         if (!offlineModeService.isOfflineMode()) {
             offlineModeService.cacheTeams(leagueId, allTeams);
+            teamSearchService.indexTeams(leagueId, allTeams);
         }
         return allTeams;
     }
@@ -51,10 +59,25 @@ public class FootballService {
         var standings = strategy.getStandings(leagueId);
         if (!offlineModeService.isOfflineMode()) {
             offlineModeService.cacheStandings(leagueId, standings);
+            teamSearchService.indexStandings(leagueId, standings);
+            standingsRankingService.indexStandings(leagueId, standings);
+            standingsHistoryService.record(leagueId, standings);
         }
         return standings;
     }
 
+    public List<TeamSearchResponse> searchTeams(String query, int limit) {
+        return teamSearchService.search(query, limit);
+    }
+
+    public List<RankingResponse> getTopTeams(RankingMetric metric, String country, int limit) {
+        return standingsRankingService.getTopTeams(metric, country, limit);
+    }
+
+    public List<StandingHistoryResponse> getTeamHistory(String leagueId, String teamId) {
+        return standingsHistoryService.getTeamHistory(leagueId, teamId);
+    }
+
     public StandingResponse getTeamStanding(String country, String leagueId, String team) {
         var standings = getStandings(leagueId);
         return standings.stream()
@@ -0,0 +1,21 @@
+package com.dm.football.service;
+
+import com.dm.football.response.StandingResponse;
+import com.dm.football.response.TeamResponse;
+
+import java.util.List;
+
+public interface PeerCacheService {
+
+    boolean isEnabled();
+
+    // Fetch through the replica owning the league key, falling back to upstream when it is unreachable
+    List<TeamResponse> getTeamsByLeague(String leagueId);
+
+    List<StandingResponse> getStandings(String leagueId);
+
+    // Owner side: answer from the local copy while it is fresh, otherwise refresh it from upstream
+    List<TeamResponse> serveTeams(String leagueId);
+
+    List<StandingResponse> serveStandings(String leagueId);
+}
@@ -0,0 +1,39 @@
+package com.dm.football.service;
+
+import com.dm.football.response.StandingResponse;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+
+import static com.dm.football.util.NumberConversionUtil.toIntOrZero;
+
+public enum RankingMetric {
+
+    POINTS("points", standing -> toIntOrZero(standing.getOverallLeaguePoints())),
+    GOAL_DIFFERENCE("goal-difference",
+            standing -> toIntOrZero(standing.getOverallLeagueGoalsFor()) - toIntOrZero(standing.getOverallLeagueGoalsAgainst())),
+    GOALS_FOR("goals-for", standing -> toIntOrZero(standing.getOverallLeagueGoalsFor()));
+
+    private final String value;
+    private final ToIntFunction<StandingResponse> extractor;
+
+    RankingMetric(String value, ToIntFunction<StandingResponse> extractor) {
+        this.value = value;
+        this.extractor = extractor;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public int extract(StandingResponse standing) {
+        return extractor.applyAsInt(standing);
+    }
+
+    public static Optional<RankingMetric> fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(metric -> metric.value.equalsIgnoreCase(value))
+                .findFirst();
+    }
+}
@@ -0,0 +1,18 @@
+package com.dm.football.service;
+
+import com.dm.football.response.StandingHistoryResponse;
+import com.dm.football.response.StandingResponse;
+
+import java.util.List;
+
+public interface StandingsHistoryService {
+
+    // Append a refreshed standings snapshot to the league's history log
+    void record(String leagueId, List<StandingResponse> standings);
+
+    // Time series of a team's table entries, oldest first
+    List<StandingHistoryResponse> getTeamHistory(String leagueId, String teamId);
+
+    // Drop records that repeat the previous entry of the same team
+    void compact();
+}
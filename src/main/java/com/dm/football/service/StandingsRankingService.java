@@ -0,0 +1,15 @@
+package com.dm.football.service;
+
+import com.dm.football.response.RankingResponse;
+import com.dm.football.response.StandingResponse;
+
+import java.util.List;
+
+public interface StandingsRankingService {
+
+    // Replace the ranked entries of a league with its latest standings
+    void indexStandings(String leagueId, List<StandingResponse> standings);
+
+    // Top teams for a metric, across all leagues of a country or globally when country is null
+    List<RankingResponse> getTopTeams(RankingMetric metric, String country, int limit);
+}
@@ -0,0 +1,21 @@
+package com.dm.football.service;
+
+import com.dm.football.response.LeagueResponse;
+import com.dm.football.response.StandingResponse;
+import com.dm.football.response.TeamResponse;
+import com.dm.football.response.TeamSearchResponse;
+
+import java.util.List;
+
+public interface TeamSearchService {
+
+    // Keep the index in step with the data that gets cached
+    void indexLeagues(List<LeagueResponse> leagues);
+
+    void indexTeams(String leagueId, List<TeamResponse> teams);
+
+    void indexStandings(String leagueId, List<StandingResponse> standings);
+
+    // Ranked prefix search over team name, team country and league name
+    List<TeamSearchResponse> search(String query, int limit);
+}
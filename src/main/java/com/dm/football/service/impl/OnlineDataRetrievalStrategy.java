@@ -6,6 +6,7 @@ import com.dm.football.response.LeagueResponse;
 import com.dm.football.response.StandingResponse;
 import com.dm.football.response.TeamResponse;
 import com.dm.football.service.DataRetrievalStrategy;
+import com.dm.football.service.PeerCacheService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -14,10 +15,13 @@ import java.util.List;
 @Service
 public class OnlineDataRetrievalStrategy implements DataRetrievalStrategy {
     private final ApiFootballClientAdapter apiFootballClientAdapter; // Injected client that calls apifootball.com
+    private final PeerCacheService peerCacheService; // Routes league data through the owning replica
 
     @Autowired
-    public OnlineDataRetrievalStrategy(ApiFootballClientAdapter apiFootballClientAdapter) {
+    public OnlineDataRetrievalStrategy(ApiFootballClientAdapter apiFootballClientAdapter,
+                                       PeerCacheService peerCacheService) {
         this.apiFootballClientAdapter = apiFootballClientAdapter;
+        this.peerCacheService = peerCacheService;
     }
 
     @Override
@@ -32,11 +36,17 @@ public class OnlineDataRetrievalStrategy implements DataRetrievalStrategy {
 
     @Override
     public List<TeamResponse> getTeamsByLeague(String leagueId) {
+        if (peerCacheService.isEnabled()) {
+            return peerCacheService.getTeamsByLeague(leagueId);
+        }
         return apiFootballClientAdapter.fetchTeams(leagueId);
     }
 
     @Override
     public List<StandingResponse> getStandings(String leagueId) {
+        if (peerCacheService.isEnabled()) {
+            return peerCacheService.getStandings(leagueId);
+        }
         return apiFootballClientAdapter.fetchStandings(leagueId);
     }
 }
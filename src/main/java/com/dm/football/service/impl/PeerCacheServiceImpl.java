@@ -0,0 +1,196 @@
+package com.dm.football.service.impl;
+
+import com.dm.football.adapter.ApiFootballClientAdapter;
+import com.dm.football.adapter.PeerCacheClientAdapter;
+import com.dm.football.exception.ExternalApiException;
+import com.dm.football.response.StandingResponse;
+import com.dm.football.response.TeamResponse;
+import com.dm.football.service.PeerCacheService;
+import com.dm.football.util.ConsistentHashRing;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Shares league data between replicas.
+ * Every league key is owned by one replica, picked with a consistent hash ring over the static peer list.
+ * Non-owners ask the owner over HTTP; the owner keeps a short-lived copy so the whole cluster hits
+ * apifootball.com about once per league and TTL instead of once per replica.
+ * Concurrent misses for the same key on the owner share a single upstream fetch.
+ * Only an owner that cannot be reached is bypassed; an error answered by the owner is passed on as is.
+ */
+@Service
+@Slf4j
+public class PeerCacheServiceImpl implements PeerCacheService {
+
+    private static final int VIRTUAL_NODES = 100;
+    private static final long FALLBACK_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final ApiFootballClientAdapter apiFootballClientAdapter;
+    private final PeerCacheClientAdapter peerCacheClientAdapter;
+    private final boolean enabled;
+    private final String selfUrl;
+    private final long ttlMs;
+    private final ConsistentHashRing ring;
+    private final Map<String, CachedEntry> ownedEntries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<List<?>>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong fallbacksSinceLog = new AtomicLong();
+    private final AtomicLong nextFallbackLogNanos = new AtomicLong(System.nanoTime());
+
+    public PeerCacheServiceImpl(ApiFootballClientAdapter apiFootballClientAdapter,
+                                PeerCacheClientAdapter peerCacheClientAdapter,
+                                @Value("${peer.cache.enabled:false}") boolean enabled,
+                                @Value("${peer.cache.self-url:http://localhost:8080}") String selfUrl,
+                                @Value("${peer.cache.peers:}") String peers,
+                                @Value("${peer.cache.ttl-ms:30000}") long ttlMs) {
+        this.apiFootballClientAdapter = apiFootballClientAdapter;
+        this.peerCacheClientAdapter = peerCacheClientAdapter;
+        this.enabled = enabled;
+        this.selfUrl = normalize(selfUrl);
+        this.ttlMs = ttlMs;
+
+        Set<String> nodes = new LinkedHashSet<>();
+        nodes.add(this.selfUrl);
+        Arrays.stream(peers.split(","))
+                .map(PeerCacheServiceImpl::normalize)
+                .filter(peer -> !peer.isEmpty())
+                .forEach(nodes::add);
+        this.ring = new ConsistentHashRing(nodes, VIRTUAL_NODES);
+        if (enabled) {
+            log.info("Peer cache enabled for {} with nodes {}", this.selfUrl, nodes);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public List<TeamResponse> getTeamsByLeague(String leagueId) {
+        return viaOwner(leagueId, this::serveTeams, peerCacheClientAdapter::fetchTeams,
+                apiFootballClientAdapter::fetchTeams);
+    }
+
+    @Override
+    public List<StandingResponse> getStandings(String leagueId) {
+        return viaOwner(leagueId, this::serveStandings, peerCacheClientAdapter::fetchStandings,
+                apiFootballClientAdapter::fetchStandings);
+    }
+
+    @Override
+    public List<TeamResponse> serveTeams(String leagueId) {
+        return serveFresh(String.join("-", "teams", leagueId), () -> apiFootballClientAdapter.fetchTeams(leagueId));
+    }
+
+    @Override
+    public List<StandingResponse> serveStandings(String leagueId) {
+        return serveFresh(String.join("-", "standings", leagueId), () -> apiFootballClientAdapter.fetchStandings(leagueId));
+    }
+
+    private <T> List<T> viaOwner(String leagueId,
+                                 Function<String, List<T>> local,
+                                 BiFunction<String, String, List<T>> fromPeer,
+                                 Function<String, List<T>> fromUpstream) {
+        String owner = ring.ownerOf(String.join("-", "league", leagueId));
+        if (owner == null || owner.equals(selfUrl)) {
+            return local.apply(leagueId);
+        }
+        try {
+            return fromPeer.apply(owner, leagueId);
+        } catch (ExternalApiException ex) {
+            // An owner that answered with an error has already tried upstream, so only a missing owner falls back
+            if (!isUnreachable(ex)) {
+                throw ex;
+            }
+            logFallback(owner, leagueId, ex);
+            return fromUpstream.apply(leagueId);
+        }
+    }
+
+    private static boolean isUnreachable(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ResourceAccessException || cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void logFallback(String owner, String leagueId, Exception ex) {
+        long fallbacks = fallbacksSinceLog.incrementAndGet();
+        long now = System.nanoTime();
+        long next = nextFallbackLogNanos.get();
+        if (now - next >= 0 && nextFallbackLogNanos.compareAndSet(next, now + FALLBACK_LOG_INTERVAL_NANOS)) {
+            fallbacksSinceLog.addAndGet(-fallbacks);
+            log.warn("Fell back to upstream {} times in the last interval, latest: peer {} unreachable for league {}: {}",
+                    fallbacks, owner, leagueId, ex.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> serveFresh(String key, Supplier<List<T>> upstream) {
+        CachedEntry cached = freshEntry(key);
+        if (cached != null) {
+            return (List<T>) cached.value();
+        }
+
+        CompletableFuture<List<?>> flight = new CompletableFuture<>();
+        CompletableFuture<List<?>> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            return (List<T>) await(running);
+        }
+        try {
+            // A fetch may have completed between the first check and registering this one
+            cached = freshEntry(key);
+            List<T> value = cached != null ? (List<T>) cached.value() : upstream.get();
+            if (cached == null) {
+                ownedEntries.put(key, new CachedEntry(value, System.currentTimeMillis()));
+            }
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private CachedEntry freshEntry(String key) {
+        CachedEntry cached = ownedEntries.get(key);
+        return cached != null && System.currentTimeMillis() - cached.fetchedAt() < ttlMs ? cached : null;
+    }
+
+    private static List<?> await(CompletableFuture<List<?>> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        }
+    }
+
+    private static String normalize(String url) {
+        String trimmed = url.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+
+    private record CachedEntry(List<?> value, long fetchedAt) {
+    }
+}
@@ -0,0 +1,280 @@
+package com.dm.football.service.impl;
+
+import com.dm.football.response.StandingHistoryResponse;
+import com.dm.football.response.StandingResponse;
+import com.dm.football.service.StandingsHistoryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.dm.football.util.NumberConversionUtil.toIntOrZero;
+
+/**
+ * Append-only standings history, one segment file per league.
+ * Each team entry of a snapshot is a fixed-width record of primitives:
+ * recorded-at millis (long) followed by team id, position, played, W, D, L, GF, GA and PTS (int).
+ * Only entries that changed since the last append are written, and reads scan a memory-mapped
+ * view of the segment so a team's series is built without loading the league history on heap.
+ */
+@Service
+@Slf4j
+public class StandingsHistoryServiceImpl implements StandingsHistoryService {
+
+    private static final String SEGMENT_PREFIX = "league-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private static final int VALUE_COUNT = 8;
+    private static final int TEAM_ID_OFFSET = Long.BYTES;
+    private static final int VALUES_OFFSET = TEAM_ID_OFFSET + Integer.BYTES;
+    private static final int RECORD_SIZE = VALUES_OFFSET + VALUE_COUNT * Integer.BYTES;
+
+    // Map at most this many bytes at once, rounded down to whole records
+    private static final long MAX_MAPPED_CHUNK = (64L * 1024 * 1024 / RECORD_SIZE) * RECORD_SIZE;
+
+    private final Path historyDir;
+    private final Map<String, Object> leagueLocks = new ConcurrentHashMap<>();
+    // league -> team id -> last appended values, used to append changes only
+    private final Map<String, Map<Integer, int[]>> lastRecorded = new ConcurrentHashMap<>();
+
+    public StandingsHistoryServiceImpl(@Value("${history.dir:data/history}") String historyDir) {
+        this.historyDir = Paths.get(historyDir);
+    }
+
+    @Override
+    public void record(String leagueId, List<StandingResponse> standings) {
+        if (standings == null || standings.isEmpty() || !isValidLeagueId(leagueId)) {
+            return;
+        }
+        long recordedAt = System.currentTimeMillis();
+        synchronized (lockFor(leagueId)) {
+            Map<Integer, int[]> previous = lastRecorded.computeIfAbsent(leagueId, key -> new HashMap<>());
+            ByteBuffer buffer = ByteBuffer.allocate(standings.size() * RECORD_SIZE);
+            Map<Integer, int[]> appended = new HashMap<>();
+            for (StandingResponse standing : standings) {
+                Integer teamId = parseTeamId(standing.getTeamId());
+                if (teamId == null) {
+                    continue;
+                }
+                int[] values = valuesOf(standing);
+                if (Arrays.equals(previous.get(teamId), values)) {
+                    continue;
+                }
+                writeRecord(buffer, recordedAt, teamId, values);
+                appended.put(teamId, values);
+            }
+            if (appended.isEmpty()) {
+                return;
+            }
+            buffer.flip();
+            try {
+                Files.createDirectories(historyDir);
+                try (FileChannel channel = FileChannel.open(segmentPath(leagueId),
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                }
+                previous.putAll(appended);
+            } catch (IOException ex) {
+                log.error("Error while appending standings history for league: {}", leagueId, ex);
+            }
+        }
+    }
+
+    @Override
+    public List<StandingHistoryResponse> getTeamHistory(String leagueId, String teamId) {
+        Integer id = parseTeamId(teamId);
+        if (id == null || !isValidLeagueId(leagueId)) {
+            return Collections.emptyList();
+        }
+        Path segment = segmentPath(leagueId);
+        if (!Files.exists(segment)) {
+            return Collections.emptyList();
+        }
+
+        // Reads take no lock: records are only ever appended, the size is snapshot to whole records when
+        // the segment is opened, and compaction swaps in a new file so an open channel keeps the old one
+        List<StandingHistoryResponse> history = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            long size = wholeRecords(channel.size());
+            for (long position = 0; position < size; position += MAX_MAPPED_CHUNK) {
+                long length = Math.min(MAX_MAPPED_CHUNK, size - position);
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                for (int offset = 0; offset < length; offset += RECORD_SIZE) {
+                    if (mapped.getInt(offset + TEAM_ID_OFFSET) == id) {
+                        history.add(toResponse(mapped, offset));
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            log.error("Error while reading standings history for league: {}", leagueId, ex);
+        }
+        return history;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${history.compaction-interval-ms:3600000}",
+            initialDelayString = "${history.compaction-interval-ms:3600000}")
+    public void compact() {
+        if (!Files.isDirectory(historyDir)) {
+            return;
+        }
+        try (DirectoryStream<Path> segments = Files.newDirectoryStream(historyDir, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path segment : segments) {
+                String fileName = segment.getFileName().toString();
+                String leagueId = fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length());
+                compact(leagueId, segment);
+            }
+        } catch (IOException ex) {
+            log.error("Error while compacting standings history", ex);
+        }
+    }
+
+    // Rewrites a segment without records that repeat the team's previous entry, then swaps it in atomically.
+    // Segments without such records are only scanned, not rewritten.
+    private void compact(String leagueId, Path segment) throws IOException {
+        synchronized (lockFor(leagueId)) {
+            try (FileChannel source = FileChannel.open(segment, StandardOpenOption.READ)) {
+                if (!hasRepeatedRecords(source, wholeRecords(source.size()))) {
+                    return;
+                }
+            }
+
+            Path compacted = segment.resolveSibling(segment.getFileName() + ".compact");
+            long before;
+            long after = 0;
+            try (FileChannel source = FileChannel.open(segment, StandardOpenOption.READ);
+                 FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                         StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                before = wholeRecords(source.size());
+                Map<Integer, int[]> previous = new HashMap<>();
+                ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+                for (long position = 0; position < before; position += MAX_MAPPED_CHUNK) {
+                    long length = Math.min(MAX_MAPPED_CHUNK, before - position);
+                    MappedByteBuffer mapped = source.map(FileChannel.MapMode.READ_ONLY, position, length);
+                    for (int offset = 0; offset < length; offset += RECORD_SIZE) {
+                        int teamId = mapped.getInt(offset + TEAM_ID_OFFSET);
+                        int[] values = valuesAt(mapped, offset);
+                        if (Arrays.equals(previous.put(teamId, values), values)) {
+                            continue;
+                        }
+                        record.clear();
+                        writeRecord(record, mapped.getLong(offset), teamId, values);
+                        record.flip();
+                        while (record.hasRemaining()) {
+                            target.write(record);
+                        }
+                        after += RECORD_SIZE;
+                    }
+                }
+                target.force(true);
+            }
+            Files.move(compacted, segment, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Compacted standings history for league {} from {} to {} bytes", leagueId, before, after);
+        }
+    }
+
+    private static boolean hasRepeatedRecords(FileChannel source, long size) throws IOException {
+        Map<Integer, int[]> previous = new HashMap<>();
+        for (long position = 0; position < size; position += MAX_MAPPED_CHUNK) {
+            long length = Math.min(MAX_MAPPED_CHUNK, size - position);
+            MappedByteBuffer mapped = source.map(FileChannel.MapMode.READ_ONLY, position, length);
+            for (int offset = 0; offset < length; offset += RECORD_SIZE) {
+                int[] values = valuesAt(mapped, offset);
+                if (Arrays.equals(previous.put(mapped.getInt(offset + TEAM_ID_OFFSET), values), values)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int[] valuesAt(ByteBuffer buffer, int offset) {
+        int[] values = new int[VALUE_COUNT];
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            values[i] = buffer.getInt(offset + VALUES_OFFSET + i * Integer.BYTES);
+        }
+        return values;
+    }
+
+    private static void writeRecord(ByteBuffer buffer, long recordedAt, int teamId, int[] values) {
+        buffer.putLong(recordedAt).putInt(teamId);
+        for (int value : values) {
+            buffer.putInt(value);
+        }
+    }
+
+    private static StandingHistoryResponse toResponse(ByteBuffer buffer, int offset) {
+        int valuesOffset = offset + VALUES_OFFSET;
+        return StandingHistoryResponse.builder()
+                .recordedAt(Instant.ofEpochMilli(buffer.getLong(offset)))
+                .position(buffer.getInt(valuesOffset))
+                .played(buffer.getInt(valuesOffset + Integer.BYTES))
+                .wins(buffer.getInt(valuesOffset + 2 * Integer.BYTES))
+                .draws(buffer.getInt(valuesOffset + 3 * Integer.BYTES))
+                .losses(buffer.getInt(valuesOffset + 4 * Integer.BYTES))
+                .goalsFor(buffer.getInt(valuesOffset + 5 * Integer.BYTES))
+                .goalsAgainst(buffer.getInt(valuesOffset + 6 * Integer.BYTES))
+                .points(buffer.getInt(valuesOffset + 7 * Integer.BYTES))
+                .build();
+    }
+
+    private static int[] valuesOf(StandingResponse standing) {
+        return new int[]{
+                toIntOrZero(standing.getOverallLeaguePosition()),
+                toIntOrZero(standing.getOverallLeaguePlayed()),
+                toIntOrZero(standing.getOverallLeagueWins()),
+                toIntOrZero(standing.getOverallLeagueDraws()),
+                toIntOrZero(standing.getOverallLeagueLosses()),
+                toIntOrZero(standing.getOverallLeagueGoalsFor()),
+                toIntOrZero(standing.getOverallLeagueGoalsAgainst()),
+                toIntOrZero(standing.getOverallLeaguePoints())
+        };
+    }
+
+    // A crash mid-append can leave a partial record at the tail, ignore it
+    private static long wholeRecords(long size) {
+        return size - size % RECORD_SIZE;
+    }
+
+    private static Integer parseTeamId(String teamId) {
+        try {
+            return teamId == null ? null : Integer.valueOf(teamId.trim());
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    // League ids end up in file names, only accept plain numeric ids
+    private static boolean isValidLeagueId(String leagueId) {
+        return leagueId != null && !leagueId.isEmpty() && leagueId.chars().allMatch(Character::isDigit);
+    }
+
+    private Path segmentPath(String leagueId) {
+        return historyDir.resolve(SEGMENT_PREFIX + leagueId + SEGMENT_SUFFIX);
+    }
+
+    private Object lockFor(String leagueId) {
+        return leagueLocks.computeIfAbsent(leagueId, key -> new Object());
+    }
+}
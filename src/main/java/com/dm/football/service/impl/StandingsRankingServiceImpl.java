@@ -0,0 +1,169 @@
+package com.dm.football.service.impl;
+
+import com.dm.football.response.RankingResponse;
+import com.dm.football.response.StandingResponse;
+import com.dm.football.service.RankingMetric;
+import com.dm.football.service.StandingsRankingService;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cross-league rankings kept in per-metric skip lists, one set globally and one per country.
+ * A standings refresh only swaps the entries of that league, and a top-N query walks the
+ * first N entries of the matching set instead of sorting every cached league.
+ * Every refresh is tagged with a new generation: the new entries are added first and skipped by readers
+ * until the league's current generation is switched to them, then the old entries are removed.
+ * Switching and removing is bracketed by two counters, and a query that overlapped such a switch is run
+ * again, so a query never sees a league missing or counted twice.
+ */
+@Service
+public class StandingsRankingServiceImpl implements StandingsRankingService {
+
+    private static final String GLOBAL_SCOPE = "*";
+
+    private static final Comparator<RankEntry> RANK_ORDER = Comparator.comparingInt(RankEntry::value).reversed()
+            .thenComparing(RankEntry::leagueId)
+            .thenComparing(RankEntry::teamId)
+            .thenComparingLong(RankEntry::generation);
+
+    // scope (global or country) -> metric -> ranked entries
+    private final Map<String, Map<RankingMetric, NavigableSet<RankEntry>>> rankings = new ConcurrentHashMap<>();
+    // league -> generation, standings and entries currently indexed for it
+    private final Map<String, LeagueEntries> entriesByLeague = new ConcurrentHashMap<>();
+    // Refreshes of the same league are serialized, different leagues are indexed concurrently
+    private final Map<String, Object> leagueLocks = new ConcurrentHashMap<>();
+    private final AtomicLong generations = new AtomicLong();
+    // Count generation switches started and finished; a query is consistent when none overlapped it
+    private final AtomicLong switchesStarted = new AtomicLong();
+    private final AtomicLong switchesFinished = new AtomicLong();
+
+    @Override
+    public void indexStandings(String leagueId, List<StandingResponse> standings) {
+        if (standings == null || isIndexed(leagueId, standings)) {
+            return;
+        }
+        synchronized (leagueLocks.computeIfAbsent(leagueId, key -> new Object())) {
+            if (isIndexed(leagueId, standings)) {
+                return;
+            }
+            long generation = generations.incrementAndGet();
+            List<IndexedEntry> current = new ArrayList<>(standings.size() * RankingMetric.values().length * 2);
+            for (StandingResponse standing : standings) {
+                if (standing.getTeamId() == null) {
+                    continue;
+                }
+                String countryScope = scopeOf(standing.getCountryName());
+                for (RankingMetric metric : RankingMetric.values()) {
+                    RankEntry entry = new RankEntry(metric.extract(standing), leagueId, standing.getTeamId(),
+                            generation, standing);
+                    current.add(add(GLOBAL_SCOPE, metric, entry));
+                    if (countryScope != null) {
+                        current.add(add(countryScope, metric, entry));
+                    }
+                }
+            }
+
+            switchesStarted.incrementAndGet();
+            try {
+                LeagueEntries previous = entriesByLeague.put(leagueId, new LeagueEntries(generation, standings, current));
+                if (previous != null) {
+                    previous.entries()
+                            .forEach(indexed -> rankingsFor(indexed.scope(), indexed.metric()).remove(indexed.entry()));
+                }
+            } finally {
+                switchesFinished.incrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public List<RankingResponse> getTopTeams(RankingMetric metric, String country, int limit) {
+        String scope = country == null || country.isBlank() ? GLOBAL_SCOPE : scopeOf(country);
+        Map<RankingMetric, NavigableSet<RankEntry>> scopeRankings = rankings.get(scope);
+        if (scopeRankings == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        NavigableSet<RankEntry> ranked = scopeRankings.get(metric);
+        while (true) {
+            long finished = switchesFinished.get();
+            long started = switchesStarted.get();
+            if (started != finished) {
+                Thread.onSpinWait();
+                continue;
+            }
+            List<RankingResponse> topTeams = collect(ranked, metric, limit);
+            if (switchesStarted.get() == started) {
+                return topTeams;
+            }
+        }
+    }
+
+    private List<RankingResponse> collect(NavigableSet<RankEntry> ranked, RankingMetric metric, int limit) {
+        List<RankingResponse> topTeams = new ArrayList<>(limit);
+        Iterator<RankEntry> iterator = ranked.iterator();
+        while (iterator.hasNext() && topTeams.size() < limit) {
+            RankEntry entry = iterator.next();
+            if (!isCurrent(entry)) {
+                continue;
+            }
+            topTeams.add(RankingResponse.builder()
+                    .rank(topTeams.size() + 1)
+                    .metric(metric.getValue())
+                    .metricValue(entry.value())
+                    .standing(entry.standing())
+                    .build());
+        }
+        return topTeams;
+    }
+
+    private boolean isIndexed(String leagueId, List<StandingResponse> standings) {
+        LeagueEntries indexed = entriesByLeague.get(leagueId);
+        return indexed != null && indexed.standings().equals(standings);
+    }
+
+    private boolean isCurrent(RankEntry entry) {
+        LeagueEntries indexed = entriesByLeague.get(entry.leagueId());
+        return indexed != null && indexed.generation() == entry.generation();
+    }
+
+    private IndexedEntry add(String scope, RankingMetric metric, RankEntry entry) {
+        rankingsFor(scope, metric).add(entry);
+        return new IndexedEntry(scope, metric, entry);
+    }
+
+    private NavigableSet<RankEntry> rankingsFor(String scope, RankingMetric metric) {
+        return rankings.computeIfAbsent(scope, key -> {
+            Map<RankingMetric, NavigableSet<RankEntry>> byMetric = new EnumMap<>(RankingMetric.class);
+            for (RankingMetric rankingMetric : RankingMetric.values()) {
+                byMetric.put(rankingMetric, new ConcurrentSkipListSet<>(RANK_ORDER));
+            }
+            return byMetric;
+        }).get(metric);
+    }
+
+    private static String scopeOf(String country) {
+        return country == null || country.isBlank() ? null : country.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record RankEntry(int value, String leagueId, String teamId, long generation, StandingResponse standing) {
+    }
+
+    private record IndexedEntry(String scope, RankingMetric metric, RankEntry entry) {
+    }
+
+    private record LeagueEntries(long generation, List<StandingResponse> standings, List<IndexedEntry> entries) {
+    }
+}
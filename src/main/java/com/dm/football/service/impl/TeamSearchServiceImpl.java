@@ -0,0 +1,308 @@
+package com.dm.football.service.impl;
+
+import com.dm.football.response.LeagueResponse;
+import com.dm.football.response.StandingResponse;
+import com.dm.football.response.TeamResponse;
+import com.dm.football.response.TeamSearchResponse;
+import com.dm.football.service.TeamSearchService;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory team search index.
+ * Every normalized token of a team's name, country and league name points to the teams containing it.
+ * The tokens live in a sorted map, so a prefix lookup is a single sub-map range scan.
+ * Writes are serialized (they only happen when data is cached) and skip teams whose indexed fields
+ * did not change; an identical refresh of a league returns before taking the lock. Reads are lock-free.
+ */
+@Service
+public class TeamSearchServiceImpl implements TeamSearchService {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final int EXACT_NAME_SCORE = 100;
+    private static final int NAME_PREFIX_SCORE = 50;
+    private static final int NAME_TOKEN_EXACT_SCORE = 20;
+    private static final int NAME_TOKEN_PREFIX_SCORE = 10;
+    private static final int OTHER_TOKEN_SCORE = 3;
+
+    private final NavigableMap<String, Set<String>> tokenIndex = new ConcurrentSkipListMap<>();
+    private final Map<String, TeamDocument> documents = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> documentsByLeague = new ConcurrentHashMap<>();
+    private final Map<String, String> leagueNames = new ConcurrentHashMap<>();
+    // Last lists indexed per league; an identical refresh is skipped before taking the write lock
+    private final Map<String, List<TeamResponse>> indexedTeams = new ConcurrentHashMap<>();
+    private final Map<String, List<StandingResponse>> indexedStandings = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized void indexLeagues(List<LeagueResponse> leagues) {
+        if (leagues == null) {
+            return;
+        }
+        for (LeagueResponse league : leagues) {
+            if (league.getLeagueId() == null || league.getLeagueName() == null) {
+                continue;
+            }
+            String previous = leagueNames.put(league.getLeagueId(), league.getLeagueName());
+            if (!league.getLeagueName().equals(previous)) {
+                refreshLeagueName(league.getLeagueId());
+            }
+        }
+    }
+
+    @Override
+    public void indexTeams(String leagueId, List<TeamResponse> teams) {
+        if (teams == null || teams.equals(indexedTeams.get(leagueId))) {
+            return;
+        }
+        synchronized (this) {
+            // The team list is authoritative for a league, drop teams that are no longer part of it
+            Set<String> retained = new HashSet<>();
+            for (TeamResponse team : teams) {
+                if (team.getTeamKey() == null || team.getTeamName() == null) {
+                    continue;
+                }
+                String id = documentId(leagueId, team.getTeamKey());
+                TeamDocument existing = documents.get(id);
+                String country = team.getTeamCountry() != null ? team.getTeamCountry()
+                        : existing != null ? existing.teamCountry() : null;
+                index(id, team.getTeamKey(), team.getTeamName(), country,
+                        existing != null ? existing.standingsCountry() : null, leagueId);
+                retained.add(id);
+            }
+            Set<String> leagueDocuments = documentsByLeague.getOrDefault(leagueId, Collections.emptySet());
+            for (String id : new ArrayList<>(leagueDocuments)) {
+                if (!retained.contains(id)) {
+                    remove(id);
+                }
+            }
+            indexedTeams.put(leagueId, teams);
+        }
+    }
+
+    @Override
+    public void indexStandings(String leagueId, List<StandingResponse> standings) {
+        if (standings == null || standings.equals(indexedStandings.get(leagueId))) {
+            return;
+        }
+        synchronized (this) {
+            standings.stream()
+                    .map(StandingResponse::getLeagueName)
+                    .filter(Objects::nonNull)
+                    .findFirst()
+                    .ifPresent(leagueName -> {
+                        if (!leagueName.equals(leagueNames.put(leagueId, leagueName))) {
+                            refreshLeagueName(leagueId);
+                        }
+                    });
+            for (StandingResponse standing : standings) {
+                if (standing.getTeamId() == null || standing.getTeamName() == null) {
+                    continue;
+                }
+                String id = documentId(leagueId, standing.getTeamId());
+                TeamDocument existing = documents.get(id);
+                String country = existing != null && existing.teamCountry() != null
+                        ? existing.teamCountry() : standing.getCountryName();
+                index(id, standing.getTeamId(), standing.getTeamName(), country, standing.getCountryName(), leagueId);
+            }
+            indexedStandings.put(leagueId, standings);
+        }
+    }
+
+    @Override
+    public List<TeamSearchResponse> search(String query, int limit) {
+        List<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        // Every query token has to prefix-match at least one token of the team
+        Map<String, Integer> scores = null;
+        for (String queryToken : queryTokens) {
+            Map<String, Integer> tokenScores = new HashMap<>();
+            for (Map.Entry<String, Set<String>> entry : prefixRange(queryToken).entrySet()) {
+                boolean exact = entry.getKey().equals(queryToken);
+                for (String id : entry.getValue()) {
+                    if (scores != null && !scores.containsKey(id)) {
+                        continue;
+                    }
+                    TeamDocument document = documents.get(id);
+                    if (document == null) {
+                        continue;
+                    }
+                    int score = scoreToken(document, entry.getKey(), exact);
+                    tokenScores.merge(id, score, Math::max);
+                }
+            }
+            if (scores != null) {
+                Map<String, Integer> previous = scores;
+                tokenScores.replaceAll((id, score) -> score + previous.get(id));
+            }
+            scores = tokenScores;
+            if (scores.isEmpty()) {
+                return Collections.emptyList();
+            }
+        }
+
+        String normalizedQuery = String.join(" ", queryTokens);
+        List<TeamSearchResponse> results = new ArrayList<>(scores.size());
+        for (Map.Entry<String, Integer> entry : scores.entrySet()) {
+            TeamDocument document = documents.get(entry.getKey());
+            if (document == null) {
+                continue;
+            }
+            int score = entry.getValue();
+            if (document.normalizedName().equals(normalizedQuery)) {
+                score += EXACT_NAME_SCORE;
+            } else if (document.normalizedName().startsWith(normalizedQuery)) {
+                score += NAME_PREFIX_SCORE;
+            }
+            results.add(TeamSearchResponse.builder()
+                    .teamKey(document.teamKey())
+                    .teamName(document.teamName())
+                    .teamCountry(document.teamCountry())
+                    .leagueId(document.leagueId())
+                    .leagueName(leagueNames.get(document.leagueId()))
+                    .standingsCountry(document.standingsCountry())
+                    .score(score)
+                    .build());
+        }
+
+        results.sort(Comparator.comparingInt(TeamSearchResponse::getScore).reversed()
+                .thenComparing(TeamSearchResponse::getTeamName, String.CASE_INSENSITIVE_ORDER));
+        return results.size() > limit ? new ArrayList<>(results.subList(0, limit)) : results;
+    }
+
+    private int scoreToken(TeamDocument document, String token, boolean exact) {
+        if (document.nameTokens().contains(token)) {
+            return exact ? NAME_TOKEN_EXACT_SCORE : NAME_TOKEN_PREFIX_SCORE;
+        }
+        return OTHER_TOKEN_SCORE;
+    }
+
+    private NavigableMap<String, Set<String>> prefixRange(String prefix) {
+        return tokenIndex.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private void refreshLeagueName(String leagueId) {
+        String leagueName = leagueNames.get(leagueId);
+        for (String id : new ArrayList<>(documentsByLeague.getOrDefault(leagueId, Collections.emptySet()))) {
+            TeamDocument document = documents.get(id);
+            if (document != null && !Objects.equals(document.leagueName(), leagueName)) {
+                upsert(document);
+            }
+        }
+    }
+
+    // Only re-tokenizes a team when one of its indexed fields actually changed
+    private void index(String id, String teamKey, String teamName, String teamCountry, String standingsCountry,
+                       String leagueId) {
+        TeamDocument existing = documents.get(id);
+        if (existing != null
+                && existing.teamKey().equals(teamKey)
+                && existing.teamName().equals(teamName)
+                && Objects.equals(existing.teamCountry(), teamCountry)
+                && Objects.equals(existing.standingsCountry(), standingsCountry)
+                && Objects.equals(existing.leagueName(), leagueNames.get(leagueId))) {
+            return;
+        }
+        upsert(TeamDocument.of(id, teamKey, teamName, teamCountry, standingsCountry, leagueId));
+    }
+
+    private void upsert(TeamDocument document) {
+        String leagueName = leagueNames.get(document.leagueId());
+        Set<String> tokens = new HashSet<>(document.nameTokens());
+        tokens.addAll(tokenize(document.teamCountry()));
+        tokens.addAll(tokenize(leagueName));
+
+        TeamDocument previous = documents.put(document.id(), document.withTokens(leagueName, tokens));
+        if (previous != null) {
+            for (String token : previous.tokens()) {
+                if (!tokens.contains(token)) {
+                    unlinkToken(token, document.id());
+                }
+            }
+        }
+        for (String token : tokens) {
+            tokenIndex.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(document.id());
+        }
+        documentsByLeague.computeIfAbsent(document.leagueId(), key -> ConcurrentHashMap.newKeySet()).add(document.id());
+    }
+
+    private void remove(String id) {
+        TeamDocument previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        previous.tokens().forEach(token -> unlinkToken(token, id));
+        Set<String> leagueDocuments = documentsByLeague.get(previous.leagueId());
+        if (leagueDocuments != null) {
+            leagueDocuments.remove(id);
+        }
+    }
+
+    private void unlinkToken(String token, String id) {
+        Set<String> ids = tokenIndex.get(token);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                tokenIndex.remove(token);
+            }
+        }
+    }
+
+    private static String documentId(String leagueId, String teamKey) {
+        return String.join(":", leagueId, teamKey);
+    }
+
+    static List<String> tokenize(String value) {
+        if (value == null || value.isBlank()) {
+            return Collections.emptyList();
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(normalized)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    // standingsCountry is the country_name of the league's standings rows, the key /team-standing matches on;
+    // it differs from teamCountry for cup and international competitions
+    private record TeamDocument(String id, String teamKey, String teamName, String teamCountry,
+                                String standingsCountry, String leagueId, String leagueName, String normalizedName,
+                                Set<String> nameTokens, Set<String> tokens) {
+
+        static TeamDocument of(String id, String teamKey, String teamName, String teamCountry,
+                               String standingsCountry, String leagueId) {
+            List<String> nameTokens = tokenize(teamName);
+            return new TeamDocument(id, teamKey, teamName, teamCountry, standingsCountry, leagueId, null,
+                    String.join(" ", nameTokens), Set.copyOf(nameTokens), Set.of());
+        }
+
+        TeamDocument withTokens(String leagueName, Set<String> tokens) {
+            return new TeamDocument(id, teamKey, teamName, teamCountry, standingsCountry, leagueId, leagueName,
+                    normalizedName, nameTokens, Set.copyOf(tokens));
+        }
+    }
+}
@@ -16,6 +16,10 @@ public class JsonConversionUtil {
     @Setter
     private static ObjectMapper objectMapper;
 
+    // Upstream payloads are only logged in full while payload debug logging is switched on
+    @Setter
+    private static volatile boolean logPayloads;
+
     static {
         objectMapper = new ObjectMapper();
         objectMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
@@ -30,7 +34,12 @@ public class JsonConversionUtil {
         try {
             return convertFromJson(jsonString, typeReference);
         } catch (IOException ex) {
-            log.error("Error while converting json: {} to object due to:", jsonString, ex);
+            if (logPayloads) {
+                log.error("Error while converting json: {} to object due to:", jsonString, ex);
+            } else {
+                log.error("Error while converting json of length {} to object due to:",
+                        jsonString == null ? 0 : jsonString.length(), ex);
+            }
             throw new JsonParseException("Error converting JSON to object");
         }
     }
@@ -0,0 +1,20 @@
+package com.dm.football.util;
+
+public class NumberConversionUtil {
+
+    private NumberConversionUtil() {
+        // object initialization not allowed.
+    }
+
+    // Upstream sends every number as a string, missing or malformed values count as zero
+    public static int toIntOrZero(String number) {
+        if (number == null || number.isBlank()) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(number.trim());
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.dm.football.adapter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HedgedRequestExecutorTest {
+
+    private static final String ACTION = "get_standings";
+    private static final long HEDGE_DELAY_MS = 20;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HedgedRequestExecutor hedgedRequestExecutor;
+
+    @AfterEach
+    void shutdown() {
+        if (hedgedRequestExecutor != null) {
+            hedgedRequestExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void passesCallsThroughWhenDisabled() {
+        hedgedRequestExecutor = executor(false, 0.1, 10, 4);
+
+        assertThat(hedgedRequestExecutor.execute(ACTION, () -> "standings")).isEqualTo("standings");
+        assertThat(meterRegistry.timer("apifootball.request", "action", ACTION).count()).isEqualTo(1);
+        assertThat(count("apifootball.hedge.sent")).isZero();
+    }
+
+    @Test
+    void hedgeWinsAgainstASlowPrimary() {
+        hedgedRequestExecutor = executor(true, 0.1, 10, 4);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedgedRequestExecutor.execute(ACTION, () -> {
+            if (calls.incrementAndGet() == 1) {
+                sleep(5000);
+                return "primary";
+            }
+            return "hedge";
+        });
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(count("apifootball.hedge.sent")).isEqualTo(1);
+        assertThat(count("apifootball.hedge.won")).isEqualTo(1);
+    }
+
+    @Test
+    void primaryWinsWhenItAnswersBeforeTheHedgeDelay() {
+        hedgedRequestExecutor = executor(true, 0.1, 10, 4);
+
+        assertThat(hedgedRequestExecutor.execute(ACTION, () -> "primary")).isEqualTo("primary");
+        assertThat(count("apifootball.hedge.sent")).isZero();
+    }
+
+    @Test
+    void hedgesArePaidFromTheBudget() {
+        // Starts with one token and earns half a token per call
+        hedgedRequestExecutor = executor(true, 0.5, 1, 4);
+        Supplier<String> slowCall = () -> {
+            sleep(HEDGE_DELAY_MS * 4);
+            return "standings";
+        };
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(hedgedRequestExecutor.execute(ACTION, slowCall)).isEqualTo("standings");
+        }
+
+        assertThat(count("apifootball.hedge.sent")).isEqualTo(2);
+        assertThat(count("apifootball.hedge.budget.exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    void skipsTheHedgeWhenThePoolIsFull() {
+        hedgedRequestExecutor = executor(true, 0.1, 10, 1);
+
+        String result = hedgedRequestExecutor.execute(ACTION, () -> {
+            sleep(HEDGE_DELAY_MS * 4);
+            return "primary";
+        });
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(count("apifootball.hedge.sent")).isZero();
+        assertThat(count("apifootball.hedge.rejected")).isEqualTo(1);
+    }
+
+    private HedgedRequestExecutor executor(boolean enabled, double budgetRatio, int maxBudget, int maxThreads) {
+        return new HedgedRequestExecutor(meterRegistry, enabled, budgetRatio, maxBudget,
+                HEDGE_DELAY_MS, HEDGE_DELAY_MS, maxThreads);
+    }
+
+    private double count(String metric) {
+        return meterRegistry.counter(metric, "action", ACTION).count();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.dm.football.adapter;
+
+import com.dm.football.response.TeamResponse;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParsedResponseCacheTest {
+
+    private static final TypeReference<List<TeamResponse>> TEAMS = new TypeReference<>() {
+    };
+    private static final String ARSENAL = "[{\"team_key\":\"1\",\"team_name\":\"Arsenal\"}]";
+    private static final String CHELSEA = "[{\"team_key\":\"3\",\"team_name\":\"Chelsea\"}]";
+
+    private final ParsedResponseCache parsedResponseCache = new ParsedResponseCache();
+
+    @Test
+    void identicalBodyReturnsTheCachedList() throws JsonParseException {
+        List<TeamResponse> first = parsedResponseCache.convert("get_teams", "152", ARSENAL, TEAMS);
+        List<TeamResponse> second = parsedResponseCache.convert("get_teams", "152", new String(ARSENAL), TEAMS);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first).extracting(TeamResponse::getTeamName).containsExactly("Arsenal");
+    }
+
+    @Test
+    void changedBodyIsParsedAgain() throws JsonParseException {
+        List<TeamResponse> first = parsedResponseCache.convert("get_teams", "152", ARSENAL, TEAMS);
+        List<TeamResponse> second = parsedResponseCache.convert("get_teams", "152", CHELSEA, TEAMS);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second).extracting(TeamResponse::getTeamName).containsExactly("Chelsea");
+    }
+
+    @Test
+    void entriesAreKeptPerActionAndId() throws JsonParseException {
+        List<TeamResponse> league152 = parsedResponseCache.convert("get_teams", "152", ARSENAL, TEAMS);
+        List<TeamResponse> league302 = parsedResponseCache.convert("get_teams", "302", ARSENAL, TEAMS);
+        List<TeamResponse> otherAction = parsedResponseCache.convert("get_other", "152", ARSENAL, TEAMS);
+
+        assertThat(league302).isNotSameAs(league152);
+        assertThat(otherAction).isNotSameAs(league152);
+        assertThat(parsedResponseCache.convert("get_teams", "152", ARSENAL, TEAMS)).isSameAs(league152);
+    }
+
+    @Test
+    void parseFailuresAreNotCached() throws JsonParseException {
+        List<TeamResponse> parsed = parsedResponseCache.convert("get_teams", "152", ARSENAL, TEAMS);
+
+        assertThatThrownBy(() -> parsedResponseCache.convert("get_teams", "152", "{not json", TEAMS))
+                .isInstanceOf(JsonParseException.class);
+        assertThatThrownBy(() -> parsedResponseCache.convert("get_teams", "152", "{not json", TEAMS))
+                .isInstanceOf(JsonParseException.class);
+        assertThat(parsedResponseCache.convert("get_teams", "152", ARSENAL, TEAMS)).isSameAs(parsed);
+    }
+
+    @Test
+    void cachedListsAreImmutable() throws JsonParseException {
+        List<TeamResponse> parsed = parsedResponseCache.convert("get_teams", "152", ARSENAL, TEAMS);
+
+        assertThatThrownBy(() -> parsed.add(new TeamResponse())).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
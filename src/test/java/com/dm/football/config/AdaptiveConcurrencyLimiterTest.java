@@ -0,0 +1,52 @@
+package com.dm.football.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    void reservesAShareOfTheLimitForPriorityRequests() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 10, 10, 0.2);
+
+        for (int i = 0; i < 8; i++) {
+            assertThat(limiter.tryAcquire(false)).isTrue();
+        }
+        assertThat(limiter.tryAcquire(false)).isFalse();
+        assertThat(limiter.tryAcquire(true)).isTrue();
+        assertThat(limiter.tryAcquire(true)).isTrue();
+        assertThat(limiter.tryAcquire(true)).isFalse();
+
+        limiter.release(0, false);
+        assertThat(limiter.getInflight()).isEqualTo(9);
+        assertThat(limiter.tryAcquire(true)).isTrue();
+    }
+
+    @Test
+    void growsWithStableLatencyAndShrinksWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 5, 200, 0);
+
+        runRounds(limiter, 20, TimeUnit.MILLISECONDS.toNanos(10));
+        int stableLimit = limiter.getLimit();
+        assertThat(stableLimit).isGreaterThan(20);
+
+        runRounds(limiter, 5, TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(limiter.getLimit()).isLessThan(stableLimit);
+    }
+
+    // Fills the limit and completes every request with the same latency
+    private static void runRounds(AdaptiveConcurrencyLimiter limiter, int rounds, long rttNanos) {
+        for (int round = 0; round < rounds; round++) {
+            int admitted = 0;
+            while (limiter.tryAcquire(true)) {
+                admitted++;
+            }
+            for (int i = 0; i < admitted; i++) {
+                limiter.release(rttNanos, true);
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.dm.football.config;
+
+import com.dm.football.controller.FsController;
+import com.dm.football.service.OfflineModeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitInterceptorTest {
+
+    // Endpoint limits are large and fixed, the shared limit is fixed at 10 with 2 slots reserved for priority
+    private static final int SHARED_LIMIT = 10;
+
+    private final OfflineModeService offlineModeService = mock(OfflineModeService.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ConcurrencyLimitInterceptor interceptor;
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        interceptor = new ConcurrencyLimitInterceptor(offlineModeService, meterRegistry, true,
+                100, 100, 100, 0.2, 1, SHARED_LIMIT, SHARED_LIMIT, SHARED_LIMIT);
+        handler = new HandlerMethod(mock(FsController.class), FsController.class.getMethod("getCountries"));
+    }
+
+    @Test
+    void shedsNormalRequestsWhilePriorityRequestsAreStillAdmitted() {
+        for (int i = 0; i < 4; i++) {
+            assertThat(preHandle("/countries", new MockHttpServletResponse())).isTrue();
+            assertThat(preHandle("/leagues", new MockHttpServletResponse())).isTrue();
+        }
+
+        MockHttpServletResponse shed = new MockHttpServletResponse();
+        assertThat(preHandle("/teams/{leagueId}", shed)).isFalse();
+        assertThat(shed.getStatus()).isEqualTo(503);
+        assertThat(shed.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+
+        assertThat(preHandle("/team-standing", new MockHttpServletResponse())).isTrue();
+        assertThat(preHandle("/team-standing", new MockHttpServletResponse())).isTrue();
+        assertThat(preHandle("/team-standing", new MockHttpServletResponse())).isFalse();
+
+        assertThat(meterRegistry.counter("http.concurrency.rejected", "endpoint", "/teams/{leagueId}",
+                "priority", "false", "scope", "*").count()).isEqualTo(1);
+    }
+
+    @Test
+    void offlineModeRequestsArePriority() {
+        for (int i = 0; i < 8; i++) {
+            assertThat(preHandle("/countries", new MockHttpServletResponse())).isTrue();
+        }
+        assertThat(preHandle("/countries", new MockHttpServletResponse())).isFalse();
+
+        when(offlineModeService.isOfflineMode()).thenReturn(true);
+        assertThat(preHandle("/countries", new MockHttpServletResponse())).isTrue();
+    }
+
+    @Test
+    void completedRequestsReleaseTheirPermits() {
+        MockHttpServletRequest first = request("/countries");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(first, response, handler)).isTrue();
+        for (int i = 1; i < 8; i++) {
+            assertThat(preHandle("/countries", new MockHttpServletResponse())).isTrue();
+        }
+        assertThat(preHandle("/countries", new MockHttpServletResponse())).isFalse();
+
+        interceptor.afterCompletion(first, response, handler, null);
+
+        assertThat(preHandle("/countries", new MockHttpServletResponse())).isTrue();
+    }
+
+    @Test
+    void asyncRedispatchKeepsTheOriginalPermit() {
+        MockHttpServletRequest request = request("/stream/countries");
+        assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), handler)).isTrue();
+        for (int i = 0; i < SHARED_LIMIT; i++) {
+            assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), handler)).isTrue();
+        }
+    }
+
+    private boolean preHandle(String endpoint, MockHttpServletResponse response) {
+        return interceptor.preHandle(request(endpoint), response, handler);
+    }
+
+    private static MockHttpServletRequest request(String endpoint) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", endpoint);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, endpoint);
+        return request;
+    }
+}
@@ -0,0 +1,96 @@
+package com.dm.football.config;
+
+import com.dm.football.response.StandingResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures payload size and encode/decode time of JSON, CBOR and Smile for a standings payload
+ * of 50 leagues with 20 teams each, and logs the comparison.
+ * Excluded from the default test run, see the benchmark profile.
+ */
+@Slf4j
+@Tag("benchmark")
+class PayloadEncodingBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 500;
+    private static final TypeReference<List<StandingResponse>> STANDINGS = new TypeReference<>() {
+    };
+
+    @Test
+    void binaryEncodingsAreSmallerThanJson() throws IOException {
+        List<StandingResponse> standings = standings();
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put("json", new ObjectMapper());
+        mappers.put("cbor", new CBORMapper());
+        mappers.put("smile", new SmileMapper());
+
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        log.info(String.format("%-6s %10s %14s %14s", "format", "bytes", "encode (us)", "decode (us)"));
+        for (Map.Entry<String, ObjectMapper> entry : mappers.entrySet()) {
+            ObjectMapper mapper = entry.getValue();
+            byte[] encoded = mapper.writeValueAsBytes(standings);
+            assertThat(mapper.readValue(encoded, STANDINGS)).isEqualTo(standings);
+
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                mapper.readValue(mapper.writeValueAsBytes(standings), STANDINGS);
+            }
+            long encodeStart = System.nanoTime();
+            for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+                mapper.writeValueAsBytes(standings);
+            }
+            long encodeNanos = (System.nanoTime() - encodeStart) / MEASURED_ITERATIONS;
+            long decodeStart = System.nanoTime();
+            for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+                mapper.readValue(encoded, STANDINGS);
+            }
+            long decodeNanos = (System.nanoTime() - decodeStart) / MEASURED_ITERATIONS;
+
+            sizes.put(entry.getKey(), encoded.length);
+            log.info(String.format("%-6s %10d %14d %14d", entry.getKey(), encoded.length,
+                    encodeNanos / 1000, decodeNanos / 1000));
+        }
+
+        assertThat(sizes.get("cbor")).isLessThan(sizes.get("json"));
+        assertThat(sizes.get("smile")).isLessThan(sizes.get("json"));
+    }
+
+    private static List<StandingResponse> standings() {
+        List<StandingResponse> standings = new ArrayList<>();
+        for (int league = 0; league < 50; league++) {
+            for (int team = 0; team < 20; team++) {
+                standings.add(StandingResponse.builder()
+                        .countryName("England")
+                        .leagueId(String.valueOf(100 + league))
+                        .leagueName("League " + league)
+                        .teamId(String.valueOf(3000 + league * 20 + team))
+                        .teamName("Team " + team)
+                        .overallLeaguePosition(String.valueOf(team + 1))
+                        .overallLeaguePlayed("38")
+                        .overallLeagueWins(String.valueOf(20 - team))
+                        .overallLeagueDraws("5")
+                        .overallLeagueLosses(String.valueOf(13 + team))
+                        .overallLeagueGoalsFor(String.valueOf(70 - team))
+                        .overallLeagueGoalsAgainst(String.valueOf(30 + team))
+                        .overallLeaguePoints(String.valueOf(65 - 3 * team))
+                        .teamBadge("https://apiv3.apifootball.com/badges/" + (3000 + team) + ".jpg")
+                        .build());
+            }
+        }
+        return standings;
+    }
+}
@@ -0,0 +1,75 @@
+package com.dm.football.controller;
+
+import com.dm.football.response.CountryResponse;
+import com.dm.football.service.FootballService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "api.football.key=test")
+@AutoConfigureMockMvc
+class ContentNegotiationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private FootballService footballService;
+
+    @BeforeEach
+    void setUp() {
+        when(footballService.getAllCountries()).thenReturn(List.of(
+                CountryResponse.builder().countryId("44").countryName("England").build()));
+    }
+
+    @Test
+    void jsonIsTheDefaultForAnyAcceptHeader() throws Exception {
+        mockMvc.perform(get("/countries").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaTypes.HAL_JSON))
+                .andExpect(jsonPath("$._embedded").exists())
+                .andExpect(jsonPath("$._links.self.href").exists());
+    }
+
+    @Test
+    void cborKeepsTheHalStructure() throws Exception {
+        byte[] body = mockMvc.perform(get("/countries").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode tree = new CBORMapper().readTree(body);
+        assertThat(tree.has("_embedded")).isTrue();
+        assertThat(tree.has("_links")).isTrue();
+        assertThat(tree.has("content")).isFalse();
+    }
+
+    @Test
+    void smileKeepsTheHalStructure() throws Exception {
+        byte[] body = mockMvc.perform(get("/countries").accept(MediaType.valueOf("application/x-jackson-smile")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode tree = new SmileMapper().readTree(body);
+        assertThat(tree.has("_embedded")).isTrue();
+        assertThat(tree.has("_links")).isTrue();
+    }
+}
@@ -0,0 +1,92 @@
+package com.dm.football.controller;
+
+import com.dm.football.response.CountryResponse;
+import com.dm.football.response.TeamResponse;
+import com.dm.football.service.FootballService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "api.football.key=test")
+@AutoConfigureMockMvc
+class NdjsonStreamingTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private FootballService footballService;
+
+    @Test
+    void streamsOneCountryPerLine() throws Exception {
+        when(footballService.getAllCountries()).thenReturn(List.of(
+                CountryResponse.builder().countryId("44").countryName("England").build(),
+                CountryResponse.builder().countryId("6").countryName("Spain").build()));
+
+        List<String> lines = stream("/stream/countries").lines().toList();
+
+        assertThat(lines).hasSize(2);
+        List<JsonNode> countries = lines.stream().map(this::parse).toList();
+        assertThat(countries).allMatch(JsonNode::isObject);
+        assertThat(countries).extracting(country -> country.get("country_name").asText())
+                .containsExactly("England", "Spain");
+    }
+
+    @Test
+    void streamsOneTeamPerLine() throws Exception {
+        when(footballService.getTeamsByLeague("152")).thenReturn(List.of(
+                new TeamResponse("1", "Arsenal", "England", "1886", null)));
+
+        String body = stream("/stream/teams/152");
+
+        assertThat(body).endsWith("\n");
+        assertThat(body.lines().map(this::parse).toList())
+                .singleElement()
+                .satisfies(team -> assertThat(team.get("team_key").asText()).isEqualTo("1"));
+    }
+
+    @Test
+    void emptyListStreamsAnEmptyBody() throws Exception {
+        when(footballService.getAllCountries()).thenReturn(List.of());
+
+        assertThat(stream("/stream/countries")).isEmpty();
+    }
+
+    private String stream(String path) throws Exception {
+        MvcResult result = mockMvc.perform(get(path))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private JsonNode parse(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (Exception ex) {
+            throw new AssertionError("Not a JSON line: " + line, ex);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.dm.football.controller;
+
+import com.dm.football.adapter.ApiFootballClientAdapter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"api.football.key=test", "peer.cache.enabled=false"})
+@AutoConfigureMockMvc
+class PeerCacheControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ApiFootballClientAdapter apiFootballClientAdapter;
+
+    @Test
+    void peerEndpointsAreNotServedWhileThePeerCacheIsDisabled() throws Exception {
+        mockMvc.perform(get("/peer/teams/152")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/peer/standings/152")).andExpect(status().isNotFound());
+
+        verifyNoInteractions(apiFootballClientAdapter);
+    }
+}
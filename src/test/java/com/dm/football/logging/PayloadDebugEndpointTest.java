@@ -0,0 +1,28 @@
+package com.dm.football.logging;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PayloadDebugEndpointTest {
+
+    private final HotPathLogger hotPathLogger = new HotPathLogger(0.01, 0.1, false);
+    private final PayloadDebugEndpoint payloadDebugEndpoint = new PayloadDebugEndpoint(hotPathLogger);
+
+    @Test
+    void togglesPayloadDebugLogging() {
+        assertThat(payloadDebugEndpoint.payloadDebug()).containsEntry("enabled", false);
+
+        assertThat(payloadDebugEndpoint.setPayloadDebug(true)).containsEntry("enabled", true);
+        assertThat(hotPathLogger.isPayloadDebug()).isTrue();
+
+        assertThat(payloadDebugEndpoint.setPayloadDebug(false)).containsEntry("enabled", false);
+        assertThat(hotPathLogger.isPayloadDebug()).isFalse();
+    }
+
+    @Test
+    void redactsApiKeys() {
+        assertThat(HotPathLogger.redact("https://apiv3.apifootball.com/?action=get_countries&APIkey=secret"))
+                .isEqualTo("https://apiv3.apifootball.com/?action=get_countries&APIkey=****");
+    }
+}
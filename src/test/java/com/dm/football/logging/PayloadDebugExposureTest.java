@@ -0,0 +1,36 @@
+package com.dm.football.logging;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "api.football.key=test")
+@AutoConfigureMockMvc
+class PayloadDebugExposureTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HotPathLogger hotPathLogger;
+
+    @Test
+    void payloadDebugIsNotExposedByDefault() throws Exception {
+        mockMvc.perform(get("/actuator/payloaddebug")).andExpect(status().isNotFound());
+        mockMvc.perform(post("/actuator/payloaddebug")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"enabled\": true}"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+        assertThat(hotPathLogger.isPayloadDebug()).isFalse();
+    }
+}
@@ -0,0 +1,130 @@
+package com.dm.football.service.impl;
+
+import com.dm.football.adapter.ApiFootballClientAdapter;
+import com.dm.football.adapter.PeerCacheClientAdapter;
+import com.dm.football.exception.ExternalApiException;
+import com.dm.football.response.StandingResponse;
+import com.dm.football.util.ConsistentHashRing;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PeerCacheServiceImplTest {
+
+    private static final String SELF = "http://localhost:8080";
+    private static final String PEER = "http://localhost:8081";
+
+    private final ApiFootballClientAdapter apiFootballClientAdapter = mock(ApiFootballClientAdapter.class);
+    private final PeerCacheClientAdapter peerCacheClientAdapter = mock(PeerCacheClientAdapter.class);
+    private final PeerCacheServiceImpl peerCacheService = new PeerCacheServiceImpl(apiFootballClientAdapter,
+            peerCacheClientAdapter, true, SELF, "", 30_000);
+
+    @Test
+    void concurrentMissesShareOneUpstreamFetch() throws Exception {
+        List<StandingResponse> standings = List.of(StandingResponse.builder().teamId("1").build());
+        CountDownLatch release = new CountDownLatch(1);
+        when(apiFootballClientAdapter.fetchStandings("152")).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return standings;
+        });
+
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<List<StandingResponse>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> peerCacheService.serveStandings("152")));
+            }
+            // Give every caller time to reach the in-flight fetch before it completes
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<List<StandingResponse>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(standings);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(apiFootballClientAdapter, times(1)).fetchStandings("152");
+    }
+
+    @Test
+    void servesFromTheOwnedCacheWithinTtl() {
+        List<StandingResponse> standings = List.of(StandingResponse.builder().teamId("1").build());
+        when(apiFootballClientAdapter.fetchStandings("152")).thenReturn(standings);
+
+        peerCacheService.getStandings("152");
+        assertThat(peerCacheService.getStandings("152")).isEqualTo(standings);
+
+        verify(apiFootballClientAdapter, times(1)).fetchStandings("152");
+        verifyNoInteractions(peerCacheClientAdapter);
+    }
+
+    @Test
+    void failedFetchIsNotCached() {
+        List<StandingResponse> standings = List.of(StandingResponse.builder().teamId("1").build());
+        when(apiFootballClientAdapter.fetchStandings("152"))
+                .thenThrow(new ExternalApiException("upstream down", new IOException("timeout")))
+                .thenReturn(standings);
+
+        assertThatThrownBy(() -> peerCacheService.serveStandings("152")).isInstanceOf(ExternalApiException.class);
+        assertThat(peerCacheService.serveStandings("152")).isEqualTo(standings);
+    }
+
+    @Test
+    void fallsBackToUpstreamWhenTheOwnerCannotBeReached() {
+        PeerCacheServiceImpl replica = replicaWithPeer();
+        String leagueId = leagueOwnedByPeer();
+        List<StandingResponse> standings = List.of(StandingResponse.builder().teamId("1").build());
+        when(peerCacheClientAdapter.fetchStandings(PEER, leagueId)).thenThrow(new ExternalApiException("peer down",
+                new ResourceAccessException("I/O error", new ConnectException("Connection refused"))));
+        when(apiFootballClientAdapter.fetchStandings(leagueId)).thenReturn(standings);
+
+        assertThat(replica.getStandings(leagueId)).isEqualTo(standings);
+    }
+
+    @Test
+    void passesOnAnErrorAnsweredByTheOwner() {
+        PeerCacheServiceImpl replica = replicaWithPeer();
+        String leagueId = leagueOwnedByPeer();
+        when(peerCacheClientAdapter.fetchStandings(PEER, leagueId)).thenThrow(new ExternalApiException("peer failed",
+                HttpServerErrorException.create(HttpStatus.BAD_GATEWAY, "Bad Gateway", HttpHeaders.EMPTY, null, null)));
+
+        assertThatThrownBy(() -> replica.getStandings(leagueId)).isInstanceOf(ExternalApiException.class);
+        verifyNoInteractions(apiFootballClientAdapter);
+    }
+
+    private PeerCacheServiceImpl replicaWithPeer() {
+        return new PeerCacheServiceImpl(apiFootballClientAdapter, peerCacheClientAdapter, true, SELF, PEER, 30_000);
+    }
+
+    private static String leagueOwnedByPeer() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of(SELF, PEER), 100);
+        return IntStream.range(1, 1000)
+                .mapToObj(String::valueOf)
+                .filter(leagueId -> PEER.equals(ring.ownerOf("league-" + leagueId)))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,87 @@
+package com.dm.football.service.impl;
+
+import com.dm.football.response.StandingHistoryResponse;
+import com.dm.football.response.StandingResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StandingsHistoryServiceImplTest {
+
+    private static final int RECORD_SIZE = 44;
+
+    @TempDir
+    Path historyDir;
+
+    @Test
+    void recordsOnlyChangesAndCompactsDuplicatesAcrossRestarts() throws IOException {
+        List<StandingResponse> matchday1 = List.of(standing("1", "1", 10), standing("2", "2", 7));
+        List<StandingResponse> matchday2 = List.of(standing("1", "1", 13), standing("2", "2", 7));
+        Path segment = historyDir.resolve("league-152.seg");
+
+        StandingsHistoryServiceImpl service = new StandingsHistoryServiceImpl(historyDir.toString());
+        service.record("152", matchday1);
+        service.record("152", matchday1);
+        assertThat(Files.size(segment)).isEqualTo(2L * RECORD_SIZE);
+
+        service.record("152", matchday2);
+        assertThat(Files.size(segment)).isEqualTo(3L * RECORD_SIZE);
+
+        // A restarted instance does not know what was appended before and repeats both teams
+        StandingsHistoryServiceImpl restarted = new StandingsHistoryServiceImpl(historyDir.toString());
+        restarted.record("152", matchday2);
+        assertThat(Files.size(segment)).isEqualTo(5L * RECORD_SIZE);
+
+        restarted.compact();
+
+        assertThat(Files.size(segment)).isEqualTo(3L * RECORD_SIZE);
+        assertThat(restarted.getTeamHistory("152", "1"))
+                .extracting(StandingHistoryResponse::getPoints)
+                .containsExactly(10, 13);
+        assertThat(restarted.getTeamHistory("152", "2"))
+                .extracting(StandingHistoryResponse::getPoints)
+                .containsExactly(7);
+    }
+
+    @Test
+    void compactionLeavesSegmentsWithoutRepeatsUntouched() throws IOException {
+        Path segment = historyDir.resolve("league-152.seg");
+        StandingsHistoryServiceImpl service = new StandingsHistoryServiceImpl(historyDir.toString());
+        service.record("152", List.of(standing("1", "1", 10)));
+        service.record("152", List.of(standing("1", "1", 13)));
+        FileTime written = FileTime.fromMillis(1_000_000);
+        Files.setLastModifiedTime(segment, written);
+
+        service.compact();
+
+        assertThat(Files.getLastModifiedTime(segment)).isEqualTo(written);
+        assertThat(Files.size(segment)).isEqualTo(2L * RECORD_SIZE);
+        assertThat(historyDir.resolve("league-152.seg.compact")).doesNotExist();
+    }
+
+    @Test
+    void ignoresUnknownLeaguesAndNonNumericIds() {
+        StandingsHistoryServiceImpl service = new StandingsHistoryServiceImpl(historyDir.toString());
+        service.record("../152", List.of(standing("1", "1", 10)));
+
+        assertThat(service.getTeamHistory("152", "1")).isEmpty();
+        assertThat(service.getTeamHistory("../152", "1")).isEmpty();
+        assertThat(service.getTeamHistory("152", "abc")).isEmpty();
+    }
+
+    private static StandingResponse standing(String teamId, String position, int points) {
+        return StandingResponse.builder()
+                .teamId(teamId)
+                .overallLeaguePosition(position)
+                .overallLeaguePlayed("5")
+                .overallLeaguePoints(String.valueOf(points))
+                .build();
+    }
+}
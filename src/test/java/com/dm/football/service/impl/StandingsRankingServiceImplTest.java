@@ -0,0 +1,116 @@
+package com.dm.football.service.impl;
+
+import com.dm.football.response.RankingResponse;
+import com.dm.football.response.StandingResponse;
+import com.dm.football.service.RankingMetric;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StandingsRankingServiceImplTest {
+
+    private final StandingsRankingServiceImpl standingsRankingService = new StandingsRankingServiceImpl();
+
+    @Test
+    void ranksTeamsAcrossLeaguesByMetric() {
+        standingsRankingService.indexStandings("152", List.of(
+                standing("England", "152", "1", 80, 70, 20),
+                standing("England", "152", "2", 75, 60, 30)));
+        standingsRankingService.indexStandings("302", List.of(
+                standing("Spain", "302", "10", 85, 65, 25)));
+
+        assertThat(standingsRankingService.getTopTeams(RankingMetric.POINTS, null, 10))
+                .extracting(response -> response.getStanding().getTeamId())
+                .containsExactly("10", "1", "2");
+        assertThat(standingsRankingService.getTopTeams(RankingMetric.GOAL_DIFFERENCE, null, 2))
+                .extracting(RankingResponse::getMetricValue)
+                .containsExactly(50, 40);
+        assertThat(standingsRankingService.getTopTeams(RankingMetric.GOALS_FOR, "ENGLAND", 10))
+                .extracting(response -> response.getStanding().getTeamId())
+                .containsExactly("1", "2");
+    }
+
+    @Test
+    void refreshReplacesTheEntriesOfALeague() {
+        standingsRankingService.indexStandings("152", List.of(
+                standing("England", "152", "1", 80, 70, 20),
+                standing("England", "152", "2", 75, 60, 30)));
+        standingsRankingService.indexStandings("152", List.of(
+                standing("England", "152", "1", 80, 70, 20),
+                standing("England", "152", "2", 83, 61, 30)));
+
+        List<RankingResponse> topTeams = standingsRankingService.getTopTeams(RankingMetric.POINTS, null, 10);
+
+        assertThat(topTeams).extracting(response -> response.getStanding().getTeamId()).containsExactly("2", "1");
+        assertThat(topTeams).extracting(RankingResponse::getRank).containsExactly(1, 2);
+    }
+
+    @Test
+    void readersSeeEachLeagueFromASingleRefresh() throws InterruptedException {
+        int teams = 20;
+        // Opposite orders over overlapping values, so a torn read can count a team twice or miss it
+        List<List<StandingResponse>> snapshots = List.of(standings(teams, team -> 50 + team),
+                standings(teams, team -> 70 - team));
+        List<Map<String, Integer>> expected = snapshots.stream().map(StandingsRankingServiceImplTest::pointsByTeam).toList();
+        standingsRankingService.indexStandings("152", snapshots.get(0));
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger inconsistentReads = new AtomicInteger();
+        AtomicInteger reads = new AtomicInteger();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                List<RankingResponse> topTeams = standingsRankingService.getTopTeams(RankingMetric.POINTS, null, 100);
+                Map<String, Integer> points = new HashMap<>();
+                topTeams.forEach(response -> points.put(response.getStanding().getTeamId(), response.getMetricValue()));
+                if (points.size() != topTeams.size() || !expected.contains(points)) {
+                    inconsistentReads.incrementAndGet();
+                }
+                reads.incrementAndGet();
+            }
+        });
+        reader.start();
+        for (int i = 1; i <= 2000; i++) {
+            standingsRankingService.indexStandings("152", snapshots.get(i % 2));
+        }
+        running.set(false);
+        reader.join();
+
+        assertThat(reads.get()).isPositive();
+        assertThat(inconsistentReads).hasValue(0);
+    }
+
+    private static List<StandingResponse> standings(int teams, IntUnaryOperator points) {
+        List<StandingResponse> standings = new ArrayList<>(teams);
+        for (int team = 0; team < teams; team++) {
+            standings.add(standing("England", "152", String.valueOf(team), points.applyAsInt(team), 40, 30));
+        }
+        return standings;
+    }
+
+    private static Map<String, Integer> pointsByTeam(List<StandingResponse> standings) {
+        Map<String, Integer> points = new HashMap<>();
+        standings.forEach(standing -> points.put(standing.getTeamId(), Integer.valueOf(standing.getOverallLeaguePoints())));
+        return points;
+    }
+
+    private static StandingResponse standing(String country, String leagueId, String teamId,
+                                             int points, int goalsFor, int goalsAgainst) {
+        return StandingResponse.builder()
+                .countryName(country)
+                .leagueId(leagueId)
+                .teamId(teamId)
+                .teamName("Team " + teamId)
+                .overallLeaguePoints(String.valueOf(points))
+                .overallLeagueGoalsFor(String.valueOf(goalsFor))
+                .overallLeagueGoalsAgainst(String.valueOf(goalsAgainst))
+                .build();
+    }
+}
@@ -0,0 +1,142 @@
+package com.dm.football.service.impl;
+
+import com.dm.football.response.LeagueResponse;
+import com.dm.football.response.StandingResponse;
+import com.dm.football.response.TeamResponse;
+import com.dm.football.response.TeamSearchResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class TeamSearchServiceImplTest {
+
+    private final TeamSearchServiceImpl teamSearchService = new TeamSearchServiceImpl();
+
+    @Test
+    void exactNameRanksAboveNamePrefixAndCountryMatches() {
+        teamSearchService.indexLeagues(List.of(league("152", "England", "Premier League")));
+        teamSearchService.indexTeams("152", List.of(
+                team("1", "Arsenal", "England"),
+                team("2", "Arsenal Tula", "Russia"),
+                team("3", "Chelsea", "England")));
+
+        List<TeamSearchResponse> results = teamSearchService.search("arsenal", 10);
+
+        assertThat(results).extracting(TeamSearchResponse::getTeamKey).containsExactly("1", "2");
+        assertThat(results.get(0).getScore()).isGreaterThan(results.get(1).getScore());
+        assertThat(results.get(0).getLeagueName()).isEqualTo("Premier League");
+
+        assertThat(teamSearchService.search("engl", 10))
+                .extracting(TeamSearchResponse::getTeamKey)
+                .containsExactlyInAnyOrder("1", "3");
+    }
+
+    @Test
+    void matchesIgnoringCaseAndDiacritics() {
+        teamSearchService.indexTeams("302", List.of(team("10", "Atlético Madrid", "Spain")));
+
+        assertThat(teamSearchService.search("ATLETICO mad", 10))
+                .extracting(TeamSearchResponse::getTeamKey)
+                .containsExactly("10");
+    }
+
+    @Test
+    void teamsMissingFromANewTeamListArePruned() {
+        teamSearchService.indexTeams("152", List.of(team("1", "Arsenal", "England"), team("3", "Chelsea", "England")));
+        teamSearchService.indexTeams("152", List.of(team("3", "Chelsea", "England")));
+
+        assertThat(teamSearchService.search("arsenal", 10)).isEmpty();
+        assertThat(teamSearchService.search("chelsea", 10)).hasSize(1);
+    }
+
+    @Test
+    void leagueNameChangeFromStandingsIsSearchable() {
+        teamSearchService.indexTeams("152", List.of(team("1", "Arsenal", "England")));
+        teamSearchService.indexStandings("152", List.of(standing("152", "Premier League", "1", "Arsenal")));
+
+        assertThat(teamSearchService.search("premier", 10)).extracting(TeamSearchResponse::getTeamKey)
+                .containsExactly("1");
+
+        teamSearchService.indexStandings("152", List.of(standing("152", "Championship", "1", "Arsenal")));
+
+        assertThat(teamSearchService.search("premier", 10)).isEmpty();
+        assertThat(teamSearchService.search("championship", 10)).extracting(TeamSearchResponse::getTeamKey)
+                .containsExactly("1");
+    }
+
+    @Test
+    void keepsTheStandingsCountryForCupCompetitions() {
+        teamSearchService.indexTeams("3", List.of(team("1", "Arsenal", "England")));
+        assertThat(teamSearchService.search("arsenal", 10).get(0).getStandingsCountry()).isNull();
+
+        teamSearchService.indexStandings("3", List.of(StandingResponse.builder()
+                .countryName("eurocups")
+                .leagueId("3")
+                .leagueName("UEFA Champions League")
+                .teamId("1")
+                .teamName("Arsenal")
+                .build()));
+        teamSearchService.indexTeams("3", List.of(team("1", "Arsenal", "England"), team("2", "Bayern", "Germany")));
+
+        TeamSearchResponse result = teamSearchService.search("arsenal", 10).get(0);
+        assertThat(result.getTeamCountry()).isEqualTo("England");
+        assertThat(result.getStandingsCountry()).isEqualTo("eurocups");
+    }
+
+    // Wall-clock check, only run with the benchmark profile
+    @Test
+    @Tag("benchmark")
+    void lookupsStayUnderAMillisecond() {
+        List<String> words = List.of("united", "city", "athletic", "rovers", "wanderers", "real", "sporting", "fc");
+        for (int league = 0; league < 250; league++) {
+            String leagueId = String.valueOf(league);
+            List<TeamResponse> teams = new ArrayList<>();
+            for (int team = 0; team < 20; team++) {
+                String name = "Club" + league + "x" + team + " " + words.get(team % words.size());
+                teams.add(team(leagueId + "-" + team, name, "Country" + (league % 40)));
+            }
+            teamSearchService.indexTeams(leagueId, teams);
+        }
+        List<String> queries = List.of("united", "club12", "city country3", "club249x19 fc", "spor", "rov");
+
+        for (int i = 0; i < 200; i++) {
+            teamSearchService.search(queries.get(i % queries.size()), 50);
+        }
+        int iterations = 2000;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            assertThat(teamSearchService.search(queries.get(i % queries.size()), 50)).isNotEmpty();
+        }
+        long averageNanos = (System.nanoTime() - start) / iterations;
+        log.info("Average search over 5000 teams took {} us", averageNanos / 1000);
+
+        assertThat(averageNanos).isLessThan(1_000_000);
+    }
+
+    private static LeagueResponse league(String leagueId, String country, String name) {
+        LeagueResponse league = new LeagueResponse();
+        league.setLeagueId(leagueId);
+        league.setCountryName(country);
+        league.setLeagueName(name);
+        return league;
+    }
+
+    private static TeamResponse team(String key, String name, String country) {
+        return new TeamResponse(key, name, country, null, null);
+    }
+
+    private static StandingResponse standing(String leagueId, String leagueName, String teamId, String teamName) {
+        return StandingResponse.builder()
+                .leagueId(leagueId)
+                .leagueName(leagueName)
+                .teamId(teamId)
+                .teamName(teamName)
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.dm.football.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 10_000;
+    private static final int VIRTUAL_NODES = 100;
+    private static final List<String> NODES = List.of("http://a:8080", "http://b:8080", "http://c:8080");
+
+    @Test
+    void spreadsKeysEvenlyOverNodes() {
+        ConsistentHashRing ring = new ConsistentHashRing(NODES, VIRTUAL_NODES);
+
+        Map<String, Integer> owned = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            owned.merge(ring.ownerOf("league-" + i), 1, Integer::sum);
+        }
+
+        assertThat(owned).containsOnlyKeys(NODES);
+        owned.values().forEach(count -> assertThat(count).isBetween(KEYS / 4, KEYS * 42 / 100));
+    }
+
+    @Test
+    void addingANodeOnlyMovesKeysToThatNode() {
+        ConsistentHashRing before = new ConsistentHashRing(NODES, VIRTUAL_NODES);
+        String added = "http://d:8080";
+        ConsistentHashRing after = new ConsistentHashRing(
+                List.of(NODES.get(0), NODES.get(1), NODES.get(2), added), VIRTUAL_NODES);
+
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            String key = "league-" + i;
+            String previousOwner = before.ownerOf(key);
+            String owner = after.ownerOf(key);
+            if (!owner.equals(previousOwner)) {
+                assertThat(owner).isEqualTo(added);
+                moved++;
+            }
+        }
+
+        assertThat(moved).isBetween(KEYS / 6, KEYS / 3);
+    }
+
+    @Test
+    void ownerDoesNotDependOnNodeOrder() {
+        ConsistentHashRing ring = new ConsistentHashRing(NODES, VIRTUAL_NODES);
+        ConsistentHashRing reversed = new ConsistentHashRing(List.of(NODES.get(2), NODES.get(1), NODES.get(0)),
+                VIRTUAL_NODES);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(reversed.ownerOf("league-" + i)).isEqualTo(ring.ownerOf("league-" + i));
+        }
+    }
+
+    @Test
+    void emptyRingHasNoOwner() {
+        assertThat(new ConsistentHashRing(List.of(), VIRTUAL_NODES).ownerOf("league-1")).isNull();
+    }
+}